@@ -1,8 +1,16 @@
 package com.wordgame;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.wordgame.core.Bulkhead;
+import com.wordgame.core.GameStatePool;
 import com.wordgame.core.JumbleEngine;
 
 @Configuration
@@ -13,4 +21,45 @@ public class AppConfig {
         return new JumbleEngine();
     }
 
+    @Bean
+    public GameStatePool gameStatePool(JumbleEngine jumbleEngine) {
+        return new GameStatePool(jumbleEngine);
+    }
+
+    @Bean
+    public Bulkhead engineBulkhead() {
+        return new Bulkhead("engine-bulkhead");
+    }
+
+    /**
+     * The executor of Spring MVC async requests (see {@link WebConfig}) and
+     * of `@Async`, as Boot would auto-configure it (`spring.task.execution.*`).
+     * Declared here, as Boot backs off once any other executor is declared
+     * (e.g. {@link #streamExecutor(int, int)}).
+     */
+    @Lazy
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * The threads writing the streamed responses (e.g. sub words), apart
+     * from the engine bulkhead: a slow client holds a thread of this pool
+     * only. Once all busy and queued, the streams are rejected (503).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamExecutor(
+            @Value("${jumble.api.stream.threads:16}") int threads,
+            @Value("${jumble.api.stream.queue-size:16}") int queueSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stream-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueSize);
+        executor.setDaemon(true);
+        return executor;
+    }
+
 }
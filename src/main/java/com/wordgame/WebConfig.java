@@ -1,11 +1,14 @@
 package com.wordgame;
 
 import org.springframework.beans.BeansException;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -78,6 +81,16 @@ public class WebConfig implements WebMvcConfigurer, ApplicationContextAware {
         return resolver;
     }
 
+    /*
+     * As Boot would (its MVC auto-configuration is off, with @EnableWebMvc):
+     * the async requests on the application executor, not a new thread each.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationContext.getBean(
+                TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncTaskExecutor.class));
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // https://stackoverflow.com/a/65269556
@@ -0,0 +1,264 @@
+package com.wordgame.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wordgame.core.Bulkhead;
+import com.wordgame.core.GameStatePool;
+import com.wordgame.core.JumbleEngine;
+import com.wordgame.model.BloomFilterStatus;
+import com.wordgame.model.BulkheadStatus;
+import com.wordgame.model.CacheStatus;
+import com.wordgame.model.DictionaryStatus;
+import com.wordgame.model.GamePoolStatus;
+import com.wordgame.model.LatencyStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Tag(name = "Admin API", description = "Administration REST API endpoint.")
+@RequestMapping(path = "/api/admin")
+public class AdminApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdminApiController.class);
+
+    private final JumbleEngine jumbleEngine;
+
+    private final GameStatePool gameStatePool;
+
+    private final Bulkhead bulkhead;
+
+    @Autowired(required = true)
+    public AdminApiController(JumbleEngine jumbleEngine, GameStatePool gameStatePool, Bulkhead bulkhead) {
+        this.jumbleEngine = jumbleEngine;
+        this.gameStatePool = gameStatePool;
+        this.bulkhead = bulkhead;
+    }
+
+    @Operation(
+            summary = "Dictionary status",
+            description = "Returns the version, word count and build duration of the dictionary snapshot in use.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The dictionary snapshot in use.",
+                                                    value = "{\n" +
+                                                            "  \"version\": 1,\n" +
+                                                            "  \"word_count\": 64662,\n" +
+                                                            "  \"build_duration_ms\": 80,\n" +
+                                                            "  \"built_at\": 1714550400000,\n" +
+                                                            "  \"compiled\": true,\n" +
+                                                            "  \"rebuilding\": false\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/dictionary", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DictionaryStatus> dictionary() {
+        return new ResponseEntity<>(status(), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Rebuilds the dictionary",
+            description = "Reloads the word list and rebuilds all the dictionary indexes, in the background. " +
+                    "The current snapshot is in use until the new one is completely built; " +
+                    "poll `/api/admin/dictionary` for the new `version`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Accepted",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Accepted",
+                                                    description = "Rebuild started, the current snapshot still in use.",
+                                                    value = "{\n" +
+                                                            "  \"version\": 1,\n" +
+                                                            "  \"word_count\": 64662,\n" +
+                                                            "  \"build_duration_ms\": 80,\n" +
+                                                            "  \"built_at\": 1714550400000,\n" +
+                                                            "  \"compiled\": true,\n" +
+                                                            "  \"rebuilding\": true\n" +
+                                                            "}") })) })
+    @PostMapping(value = "/dictionary/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DictionaryStatus> rebuild() {
+        this.jumbleEngine.rebuildDictionary();
+        DictionaryStatus status = status();
+        LOG.info("rebuild requested, current {}", status);
+        return new ResponseEntity<>(status, HttpStatus.ACCEPTED);
+    }
+
+    @Operation(
+            summary = "Sub words cache status",
+            description = "Returns the size and the hit/miss/eviction counters of the sub words cache. " +
+                    "The cache is emptied when the dictionary is rebuilt.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CacheStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The sub words cache.",
+                                                    value = "{\n" +
+                                                            "  \"enabled\": true,\n" +
+                                                            "  \"size\": 812,\n" +
+                                                            "  \"hits\": 4096,\n" +
+                                                            "  \"misses\": 1024,\n" +
+                                                            "  \"evictions\": 0,\n" +
+                                                            "  \"max_size\": 10000,\n" +
+                                                            "  \"hit_rate\": 0.8\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/cache/subwords", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CacheStatus> subWordsCache() {
+        return new ResponseEntity<>(CacheStatus.of(this.jumbleEngine.getSubWordsCache()), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Game pool status",
+            description = "Returns the counters of the pool of games created ahead: " +
+                    "the games ready, taken from the pool, and created inline (the pool being empty).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GamePoolStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The game pool.",
+                                                    value = "{\n" +
+                                                            "  \"size\": 16,\n" +
+                                                            "  \"ready\": 16,\n" +
+                                                            "  \"taken\": 120,\n" +
+                                                            "  \"created_inline\": 2\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/game-pool", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GamePoolStatus> gamePool() {
+        return new ResponseEntity<>(GamePoolStatus.of(this.gameStatePool), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Suggestions latency",
+            description = "Returns the latencies of suggesting the words close to a wrong guess (\"did you mean\").")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = LatencyStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The suggestions latency.",
+                                                    value = "{\n" +
+                                                            "  \"count\": 4096,\n" +
+                                                            "  \"mean_us\": 182.5,\n" +
+                                                            "  \"p50_us\": 256,\n" +
+                                                            "  \"p99_us\": 512,\n" +
+                                                            "  \"max_us\": 1830.2\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/latency/suggestions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LatencyStatus> suggestionsLatency() {
+        return new ResponseEntity<>(LatencyStatus.of(this.jumbleEngine.getSuggestLatency()), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Bloom filter status",
+            description = "Returns the size and the counters of the Bloom filter of the words, consulted before " +
+                    "the exact index when checking if words exist. The counters restart when the dictionary is rebuilt.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = BloomFilterStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The Bloom filter.",
+                                                    value = "{\n" +
+                                                            "  \"enabled\": true,\n" +
+                                                            "  \"false_positive_rate\": 0.01,\n" +
+                                                            "  \"hash_count\": 7,\n" +
+                                                            "  \"size_bytes\": 92672,\n" +
+                                                            "  \"queries\": 4096,\n" +
+                                                            "  \"rejected\": 3072,\n" +
+                                                            "  \"false_positives\": 31,\n" +
+                                                            "  \"observed_false_positive_rate\": 0.0099\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/bloom-filter", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BloomFilterStatus> bloomFilter() {
+        return new ResponseEntity<>(BloomFilterStatus.of(this.jumbleEngine.getDictionary().getBloomFilter()),
+                HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Bulkhead status",
+            description = "Returns the queue depth and the counters of the pool running the CPU heavy engine calls " +
+                    "(sub words, search, new games), and the time of the tasks waiting and running.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = BulkheadStatus.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The engine bulkhead.",
+                                                    value = "{\n" +
+                                                            "  \"name\": \"engine-bulkhead\",\n" +
+                                                            "  \"threads\": 4,\n" +
+                                                            "  \"active\": 4,\n" +
+                                                            "  \"queue_depth\": 12,\n" +
+                                                            "  \"queue_capacity\": 64,\n" +
+                                                            "  \"completed\": 4096,\n" +
+                                                            "  \"rejected\": 3,\n" +
+                                                            "  \"wait\": { \"count\": 4096, \"mean_us\": 850.1, \"p50_us\": 64, \"p99_us\": 16384, \"max_us\": 30211.7 },\n" +
+                                                            "  \"execution\": { \"count\": 4096, \"mean_us\": 1210.4, \"p50_us\": 512, \"p99_us\": 32768, \"max_us\": 61877.0 }\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/bulkhead", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkheadStatus> bulkhead() {
+        return new ResponseEntity<>(BulkheadStatus.of(this.bulkhead), HttpStatus.OK);
+    }
+
+    private DictionaryStatus status() {
+        return DictionaryStatus.of(this.jumbleEngine.getDictionarySnapshot(), this.jumbleEngine.isRebuildingDictionary());
+    }
+
+}
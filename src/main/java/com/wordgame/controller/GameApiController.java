@@ -1,20 +1,34 @@
 package com.wordgame.controller;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.wordgame.core.Bulkhead;
+import com.wordgame.core.DailyPuzzle;
 import com.wordgame.core.GameState;
+import com.wordgame.core.GameStatePool;
+import com.wordgame.core.GuessSuggestions;
 import com.wordgame.core.JumbleEngine;
+import com.wordgame.core.SegmentedLruCache;
+import com.wordgame.model.DailyGuessModel;
 import com.wordgame.model.GameGuessInput;
 import com.wordgame.model.GameGuessModel;
 import com.wordgame.model.GameGuessOutput;
@@ -34,6 +48,11 @@ public class GameApiController {
 
     private static final Logger LOG = LoggerFactory.getLogger(GameApiController.class);
 
+    /*
+     * The words suggested for a wrong guess, of the game and of the dictionary.
+     */
+    static final int MAX_SUGGESTIONS = 5;
+
     private final JumbleEngine jumbleEngine;
 
     /*
@@ -41,10 +60,31 @@ public class GameApiController {
      */
     private final Map<String, GameGuessModel> gameBoards;
 
+    private final GameStatePool gameStatePool;
+
+    /*
+     * Runs the new games off the request threads, as created inline when
+     * the pool is empty.
+     */
+    private final Bulkhead bulkhead;
+
+    /*
+     * The players of the daily puzzles, each with only its guessed words.
+     * Bounded, the least recently played evicted first, and the players of
+     * the previous days dropped once a new day.
+     */
+    private final SegmentedLruCache<String, DailyGuessModel> dailyBoards;
+
+    private volatile LocalDate dailyBoardsDate;
+
     @Autowired(required = true)
-    public GameApiController(JumbleEngine jumbleEngine) {
+    public GameApiController(JumbleEngine jumbleEngine, GameStatePool gameStatePool, Bulkhead bulkhead,
+            @Value("${jumble.game.daily.boards.size:100000}") int dailyBoardsSize) {
         this.jumbleEngine = jumbleEngine;
+        this.gameStatePool = gameStatePool;
+        this.bulkhead = bulkhead;
         this.gameBoards = new ConcurrentHashMap<>();
+        this.dailyBoards = new SegmentedLruCache<>(dailyBoardsSize);
     }
 
     @Operation(
@@ -70,16 +110,33 @@ public class GameApiController {
                                                             "  \"total_words\": 29,\n" +
                                                             "  \"remaining_words\": 29,\n" +
                                                             "  \"guessed_words\": []\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Service Unavailable",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Busy",
+                                                    description = "Too many games being created, retry after `Retry-After` seconds.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Server busy, please retry later.\"\n" +
                                                             "}") })) })
     @GetMapping(value = "/new", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<GameGuessOutput> newGame() {
+    public CompletableFuture<ResponseEntity<GameGuessOutput>> newGame() {
+        return bulkhead.submit(this::createGame);
+    }
+
+    private ResponseEntity<GameGuessOutput> createGame() {
         /*
          * Refer to the method's Javadoc (above) and implement accordingly.
          * Must pass the corresponding unit tests.
          */
         GameGuessOutput output = new GameGuessOutput();
 
-        GameState gameState = this.jumbleEngine.createGameState(6, 3);
+        GameState gameState = this.gameStatePool.take(6, 3);
 
         /*
          * TODO:
@@ -289,6 +346,8 @@ public class GameApiController {
                 output.setGuessedWords(currentGuessModel.getGameState().getGuessedWords());
                 output.setGuessWord(null);
                 output.setResult("Guessed incorrectly.");
+                Map<String, Boolean> subWords = currentGuessModel.getGameState().getSubWords();
+                suggest(output, input.getWord(), word -> Boolean.FALSE.equals(subWords.get(word)));
                 return new ResponseEntity<>(output, HttpStatus.OK);
             }
 
@@ -304,4 +363,151 @@ public class GameApiController {
         return playGame(gameGuessInput);
     }
 
+    @Operation(
+            summary = "Joins the daily puzzle",
+            description = "Joins the puzzle of the day (UTC), the same word and scramble for all the players, " +
+                    "and registers the player's progress referenced by `id`. Play with `/api/game/daily/guess`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "Joined the daily puzzle.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Joined daily game.\",\n" +
+                                                            "  \"id\": \"0b7e3c1a-3f55-4f0e-9b4a-2a7c5e6d8f90\",\n" +
+                                                            "  \"date\": \"2024-05-01\",\n" +
+                                                            "  \"original_word\": \"titans\",\n" +
+                                                            "  \"scramble_word\": \"n i s a t t\",\n" +
+                                                            "  \"total_words\": 29,\n" +
+                                                            "  \"remaining_words\": 29,\n" +
+                                                            "  \"guessed_words\": []\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/daily", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> dailyGame() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        dropDailyBoardsBefore(today);
+        DailyPuzzle puzzle = this.jumbleEngine.getDailyPuzzle(today);
+        DailyGuessModel guessModel = new DailyGuessModel();
+        guessModel.setId(UUID.randomUUID().toString());
+        guessModel.setPuzzle(puzzle);
+        guessModel.setCreatedAt(new Date());
+        guessModel.setModifiedAt(guessModel.getCreatedAt());
+        dailyBoards.put(guessModel.getId(), guessModel);
+        LOG.info("new daily board {}", guessModel);
+        return new ResponseEntity<>(dailyOutput(guessModel, null, "Joined daily game."), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Submits word to play the daily puzzle",
+            description = "Submits a guessed `word`, along with the `id` from `/api/game/daily`. " +
+                    "The results are as of `/api/game/guess`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class))),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid ID",
+                                                    description = "The input `ID` is invalid, or not of a daily game.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid Game ID.\"\n" +
+                                                            "}") })) })
+    @PostMapping(value = "/daily/guess", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> playDailyGame(
+            @Parameter(
+                    description = "Submits the `word` to guess.",
+                    required = true,
+                    schema = @Schema(implementation = GameGuessInput.class))
+            @RequestBody GameGuessInput input) {
+        DailyGuessModel guessModel = input.getId() == null ? null : dailyBoards.getIfPresent(input.getId());
+        // or of a previous day, not dropped yet
+        if (guessModel == null || guessModel.getPuzzle().getDate().isBefore(LocalDate.now(ZoneOffset.UTC))) {
+            GameGuessOutput output = new GameGuessOutput();
+            output.setResult("Invalid Game ID.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        DailyPuzzle puzzle = guessModel.getPuzzle();
+        if (!puzzle.isSubWord(input.getWord())) {
+            GameGuessOutput output = dailyOutput(guessModel, null, "Guessed incorrectly.");
+            if (input.getWord() != null) {
+                suggest(output, input.getWord(), word -> puzzle.isSubWord(word) && !guessModel.getGuessedWords().contains(word));
+            }
+            return new ResponseEntity<>(output, HttpStatus.OK);
+        }
+        guessModel.getGuessedWords().add(input.getWord());
+        guessModel.setModifiedAt(new Date());
+        GameGuessOutput output = dailyOutput(guessModel, input.getWord(), "Guessed correctly.");
+        if (output.getRemainingWords() == 0) {
+            output.setResult("All words guessed.");
+        }
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    /*
+     * The bulkhead full: the client to retry later, the other endpoints still served.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<GameGuessOutput> busy(RejectedExecutionException e) {
+        GameGuessOutput output = new GameGuessOutput();
+        output.setResult("Server busy, please retry later.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(output);
+    }
+
+    /*
+     * Once a new day, drops the players of the previous days' puzzles.
+     */
+    private void dropDailyBoardsBefore(LocalDate today) {
+        LocalDate date = dailyBoardsDate;
+        if (date == null || date.isBefore(today)) {
+            synchronized (dailyBoards) {
+                if (dailyBoardsDate == null || dailyBoardsDate.isBefore(today)) {
+                    dailyBoards.removeIf(guessModel -> guessModel.getPuzzle().getDate().isBefore(today));
+                    dailyBoardsDate = today;
+                }
+            }
+        }
+    }
+
+    /*
+     * "Did you mean": the words close to the wrong guess `word`.
+     */
+    private void suggest(GameGuessOutput output, String word, Predicate<String> isSubWord) {
+        GuessSuggestions suggestions = this.jumbleEngine.suggestGuesses(word, isSubWord, MAX_SUGGESTIONS);
+        output.setSuggestions(suggestions.getSubWords());
+        output.setDictionarySuggestions(suggestions.getWords());
+    }
+
+    private static GameGuessOutput dailyOutput(DailyGuessModel guessModel, String guessWord, String result) {
+        DailyPuzzle puzzle = guessModel.getPuzzle();
+        List<String> guessedWords = puzzle.getGuessedWords(guessModel.getGuessedWords());
+        GameGuessOutput output = new GameGuessOutput();
+        output.setId(guessModel.getId());
+        output.setDate(puzzle.getDate().toString());
+        output.setOriginalWord(puzzle.getOriginal());
+        output.setScrambleWord(puzzle.getScrambleAsDisplay());
+        output.setTotalWords(puzzle.getSubWords().size());
+        output.setRemainingWords(puzzle.getSubWords().size() - guessedWords.size());
+        output.setGuessedWords(guessedWords);
+        output.setGuessWord(guessWord);
+        output.setResult(result);
+        return output;
+    }
+
 }
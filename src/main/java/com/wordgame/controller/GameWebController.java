@@ -1,5 +1,7 @@
 package com.wordgame.controller;
 
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +16,8 @@ import org.springframework.web.bind.annotation.SessionAttributes;
 import org.springframework.web.bind.support.SessionStatus;
 
 import com.wordgame.core.GameState;
+import com.wordgame.core.GameStatePool;
+import com.wordgame.core.GuessSuggestions;
 import com.wordgame.core.JumbleEngine;
 import com.wordgame.model.GameBoard;
 
@@ -26,9 +30,12 @@ public class GameWebController {
 
     private final JumbleEngine jumbleEngine;
 
+    private final GameStatePool gameStatePool;
+
     @Autowired(required = true)
-    public GameWebController(JumbleEngine jumbleEngine) {
+    public GameWebController(JumbleEngine jumbleEngine, GameStatePool gameStatePool) {
         this.jumbleEngine = jumbleEngine;
+        this.gameStatePool = gameStatePool;
     }
 
     @ModelAttribute("board")
@@ -65,7 +72,7 @@ public class GameWebController {
 
     @GetMapping("/new")
     public String doGetNew(@ModelAttribute(name = "board") GameBoard board) {
-        GameState state = this.jumbleEngine.createGameState(6, 3);
+        GameState state = this.gameStatePool.take(6, 3);
 
         /*
          * TODO:
@@ -118,7 +125,12 @@ public class GameWebController {
         if(board.getState().getSubWords().containsKey(board.getWord())){
             board.getState().updateGuessWord(board.getWord());
         }else{
-            bindingResult.rejectValue("word", "field.required", "Guessed incorrectly");
+            Map<String, Boolean> subWords = board.getState().getSubWords();
+            GuessSuggestions suggestions = this.jumbleEngine.suggestGuesses(board.getWord(),
+                    word -> Boolean.FALSE.equals(subWords.get(word)), GameApiController.MAX_SUGGESTIONS);
+            bindingResult.rejectValue("word", "field.required", suggestions.getSubWords().isEmpty()
+                    ? "Guessed incorrectly"
+                    : "Guessed incorrectly, did you mean: " + String.join(", ", suggestions.getSubWords()) + "?");
         }
 
         model.addAttribute("board",board);
@@ -2,20 +2,30 @@ package com.wordgame.controller;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import com.wordgame.core.Bulkhead;
 import com.wordgame.core.JumbleEngine;
 import com.wordgame.model.ExistsForm;
+import com.wordgame.model.PatternForm;
 import com.wordgame.model.PrefixForm;
 import com.wordgame.model.ScrambleForm;
 import com.wordgame.model.SearchForm;
@@ -27,11 +37,22 @@ public class RootController {
 
     private static final Logger LOG = LoggerFactory.getLogger(RootController.class);
 
+    /*
+     * The words matching a pattern listed on the page, at most.
+     */
+    private static final int MAX_PATTERN_WORDS = 1000;
+
     private final JumbleEngine jumbleEngine;
 
+    /*
+     * Runs the CPU heavy engine calls (sub words, search) off the request threads.
+     */
+    private final Bulkhead bulkhead;
+
     @Autowired(required = true)
-    public RootController(JumbleEngine jumbleEngine) {
+    public RootController(JumbleEngine jumbleEngine, Bulkhead bulkhead) {
         this.jumbleEngine = jumbleEngine;
+        this.bulkhead = bulkhead;
     }
 
     @GetMapping
@@ -159,6 +180,35 @@ public class RootController {
         return "prefix";
     }
 
+    @GetMapping("pattern")
+    public String doGetPattern(Model model) {
+        model.addAttribute("form", new PatternForm());
+        return "pattern";
+    }
+
+    @PostMapping("pattern")
+    public String doPostPattern(
+            @ModelAttribute(name = "form") PatternForm form,
+            BindingResult bindingResult, Model model) {
+        String pattern = form.getPattern() == null ? "" : form.getPattern().trim();
+        if (pattern.isEmpty()) {
+            bindingResult.rejectValue("pattern", "field.required", "must not be blank");
+        } else if (!pattern.matches("[\\p{L}?*]+")) {
+            bindingResult.rejectValue("pattern", "field.invalid", "only letters, ? and * allowed");
+        }
+        if (bindingResult.hasErrors()) {
+            return "pattern";
+        }
+
+        List<String> words = jumbleEngine.wordsMatchingPattern(pattern);
+
+        LOG.info("pattern {} matched {} words", pattern, words.size());
+        form.setTotal(words.size());
+        form.setWords(words.subList(0, Math.min(words.size(), MAX_PATTERN_WORDS)));
+        model.addAttribute("form", form);
+        return "pattern";
+    }
+
     @GetMapping("search")
     public String doGetSearch(Model model) {
         model.addAttribute("form", new SearchForm());
@@ -166,7 +216,7 @@ public class RootController {
     }
 
     @PostMapping("search")
-    public String doPostSearch(
+    public CompletableFuture<String> doPostSearch(
             @ModelAttribute(name = "form") SearchForm form,
             BindingResult bindingResult, Model model) {
         /*
@@ -207,17 +257,20 @@ public class RootController {
         if((startChar !=null && startChar.length()>1)||(endChar !=null && endChar.length()>1)){
             bindingResult.rejectValue("startChar", "field.required", "size must be between 0 and 1");
             bindingResult.rejectValue("endChar", "field.required", "size must be between 0 and 1");
-            return "search";
+            return CompletableFuture.completedFuture("search");
         }
 
-
-        Collection<String> words = jumbleEngine.searchWords(startC, endC, lengthChar);
-
-        LOG.info("search {}",words);
-        form.setWords(words);
+        Character first = startC;
+        Character last = endC;
+        int length = lengthChar;
         model.addAttribute("form", form);
+        return bulkhead.submit(() -> {
+            Collection<String> words = jumbleEngine.searchWords(first, last, length);
 
-        return "search";
+            LOG.info("search {}",words);
+            form.setWords(words);
+            return "search";
+        });
     }
 
     @GetMapping("subWords")
@@ -227,7 +280,7 @@ public class RootController {
     }
 
     @PostMapping("subWords")
-    public String doPostSubWords(
+    public CompletableFuture<String> doPostSubWords(
             @ModelAttribute(name = "form") SubWordsForm form,
             BindingResult bindingResult, Model model) {
         /*
@@ -240,13 +293,25 @@ public class RootController {
 
         if (form.getWord() == null || form.getWord().trim().isEmpty()) {
             bindingResult.rejectValue("word", "field.required", "Invalid Word");
-            return "subWords";
+            return CompletableFuture.completedFuture("subWords");
         }
 
-        form.setWords(jumbleEngine.generateSubWords(form.getWord().trim(),form.getMinLength()));
-
         model.addAttribute("form", form);
-        return "subWords";
+        return bulkhead.submit(() -> {
+            form.setWords(jumbleEngine.generateSubWords(form.getWord().trim(),form.getMinLength()));
+            return "subWords";
+        });
+    }
+
+    /*
+     * The bulkhead full: the client to retry later, the other pages still served.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> busy(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Server busy, please retry later.");
     }
 
 }
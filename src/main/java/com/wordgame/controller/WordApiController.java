@@ -1,23 +1,55 @@
 package com.wordgame.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.wordgame.core.Bulkhead;
 import com.wordgame.core.JumbleEngine;
+import com.wordgame.core.SubWordStream;
+import com.wordgame.core.WordPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,21 +63,67 @@ public class WordApiController {
 
     private static final Logger LOG = LoggerFactory.getLogger(WordApiController.class);
 
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /*
+     * The words of a prefix page, if a `cursor` but no `limit`, and of a
+     * pattern if no `limit`.
+     */
+    static final int DEFAULT_LIMIT = 100;
+
+    static final int MAX_LIMIT = 1000;
+
+    /*
+     * The words of a batch of exists, at most.
+     */
+    static final int MAX_BATCH_SIZE = 1000000;
+
+    /*
+     * The body of a batch of exists, at most: rejected from its length,
+     * before any word is read.
+     */
+    static final long MAX_BATCH_BYTES = 32L * MAX_BATCH_SIZE;
+
+    /*
+     * The sub words of a streamed event, at most (the first event as soon as
+     * the first sub word is found).
+     */
+    static final int SUB_WORDS_EVENT_SIZE = 64;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
     private final JumbleEngine jumbleEngine;
 
+    private final Bulkhead bulkhead;
+
+    private final AsyncTaskExecutor streamExecutor;
+
     @Autowired(required = true)
-    public WordApiController(JumbleEngine jumbleEngine) {
+    public WordApiController(JumbleEngine jumbleEngine, Bulkhead bulkhead,
+            @Qualifier("streamExecutor") AsyncTaskExecutor streamExecutor) {
         this.jumbleEngine = jumbleEngine;
+        this.bulkhead = bulkhead;
+        this.streamExecutor = streamExecutor;
     }
 
     @Operation(
             summary = "Auto complete based on prefix",
-            description = "Returns a list of words matching the input `prefix` (of at least 3 letters).")
+            description = "Returns the words matching the input `prefix` (of at least 3 letters): all of them, " +
+                    "unless paged. With `limit` or `cursor`, returns a page of at most `limit` words (" +
+                    DEFAULT_LIMIT + " if no `limit`), and the `X-Next-Cursor` header, if any more words, is the " +
+                    "`cursor` of the next page. The `X-Total-Count` header is the number of all the matching words. " +
+                    "With `top`, returns instead the `top` most frequent words (if word frequencies are loaded, " +
+                    "else the first in dictionary order), the most frequent first, without paging.")
     @ApiResponses(
             value = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "Success",
+                            headers = {
+                                    @Header(name = TOTAL_COUNT_HEADER, description = "The number of all the matching words."),
+                                    @Header(name = NEXT_CURSOR_HEADER, description = "The cursor of the next page, if any.") },
                             content = @Content(
                                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     examples = {
@@ -60,20 +138,451 @@ public class WordApiController {
                                                             "  \"awesomely\",\n" +
                                                             "  \"awesomeness\",\n" +
                                                             "  \"awestruck\"\n" +
-                                                            "]") })) })
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid Cursor",
+                                                    description = "The `cursor` is invalid, or expired by a dictionary rebuild.",
+                                                    value = "[]") })) })
     @GetMapping(value = "/{prefix}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Collection<String>> autoComplete(
             @Parameter(
                     description = "The prefix.",
                     required = true,
                     example = "awe")
-            @PathVariable String prefix) {
+            @PathVariable String prefix,
+            @Parameter(
+                    description = "The maximum number of words of the page, up to " + MAX_LIMIT + ". " +
+                    "If neither `limit` nor `cursor`, all the words, not paged.",
+                    example = "100")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(
+                    description = "The cursor of the page, from the `X-Next-Cursor` header of the previous page.")
+            @RequestParam(required = false) String cursor,
+            @Parameter(
+                    description = "The number of most frequent words, up to " + MAX_LIMIT + ". Not paged.",
+                    example = "10")
+            @RequestParam(required = false) Integer top) {
         prefix = StringUtils.trimToEmpty(prefix);
         if (prefix.length() < 3) {
-            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.OK);
+            return ResponseEntity.ok().header(TOTAL_COUNT_HEADER, "0").body(Collections.emptyList());
+        }
+        if (top != null) {
+            Collection<String> words = this.jumbleEngine.topWordsMatchingPrefix(prefix, Math.min(Math.max(top, 0), MAX_LIMIT));
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, Integer.toString(this.jumbleEngine.wordsMatchingPrefix(prefix).size()))
+                    .body(words);
+        }
+        cursor = StringUtils.trimToNull(cursor);
+        if (limit == null && cursor == null) {
+            // not paged, as before paging
+            Collection<String> words = this.jumbleEngine.wordsMatchingPrefix(prefix);
+            return ResponseEntity.ok().header(TOTAL_COUNT_HEADER, Integer.toString(words.size())).body(words);
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        WordPage page;
+        try {
+            page = this.jumbleEngine.wordsMatchingPrefix(prefix, cursor, size);
+        } catch (IllegalArgumentException e) {
+            LOG.debug("rejected prefix=[{}] page: {}", prefix, e.getMessage());
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.BAD_REQUEST);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(TOTAL_COUNT_HEADER, Integer.toString(page.getTotal()));
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getWords());
+    }
+
+    @Operation(
+            summary = "Words matching a wildcard pattern",
+            description = "Returns the words matching the `pattern`, e.g. \"c?t*s\": `?` matches any one letter, " +
+                    "`*` any letters (none included). At most `limit` words (" + DEFAULT_LIMIT + " if no `limit`), " +
+                    "in dictionary order; " +
+                    "the `X-Total-Count` header is the number of all the matching words.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            headers = {
+                                    @Header(name = TOTAL_COUNT_HEADER, description = "The number of all the matching words.") },
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `pattern`.",
+                                                    value = "[\n" +
+                                                            "  \"cats\",\n" +
+                                                            "  \"cattails\",\n" +
+                                                            "  \"cities\",\n" +
+                                                            "  \"cuts\"\n" +
+                                                            "]") })) })
+    @GetMapping(params = "pattern", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> matchPattern(
+            @Parameter(
+                    description = "The pattern, of letters and wildcards `?` and `*`.",
+                    required = true,
+                    example = "c?t*s")
+            @RequestParam String pattern,
+            @Parameter(
+                    description = "The maximum number of words, up to " + MAX_LIMIT + ", " + DEFAULT_LIMIT +
+                            " if none.",
+                    example = "100")
+            @RequestParam(required = false) Integer limit) {
+        List<String> words = this.jumbleEngine.wordsMatchingPattern(StringUtils.trimToEmpty(pattern));
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, Integer.toString(words.size()))
+                .body(words.subList(0, Math.min(size, words.size())));
+    }
+
+    @Operation(
+            summary = "Checks if the words exist, in a batch",
+            description = "Checks each of the words, as a JSON array or one word per line (`text/plain`), " +
+                    "case insensitive. Returns a JSON array of booleans, in the order of the words; or, if " +
+                    "`application/octet-stream` accepted, the bit set of the words found: the bit `i % 8` " +
+                    "(least significant first) of the byte `i / 8` set if the word `i` exists. " +
+                    "At most " + MAX_BATCH_SIZE + " words, and " + MAX_BATCH_BYTES + " bytes.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "The words to check.",
+                    required = true,
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = @ExampleObject(value = "[\"apple\", \"fourtitude\", \"Banana\"]")),
+                            @Content(
+                                    mediaType = MediaType.TEXT_PLAIN_VALUE,
+                                    examples = @ExampleObject(value = "apple\nfourtitude\nBanana\n")) }))
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            examples = {
+                                                    @ExampleObject(
+                                                            name = "Success",
+                                                            description = "Whether each word exists.",
+                                                            value = "[\n" +
+                                                                    "  true,\n" +
+                                                                    "  false,\n" +
+                                                                    "  true\n" +
+                                                                    "]") }),
+                                    @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE) }),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request, not a JSON array of words",
+                            content = @Content),
+                    @ApiResponse(
+                            responseCode = "413",
+                            description = "Payload Too Large",
+                            content = @Content) })
+    @PostMapping(value = "/exists", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> existsAll(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength)
+            throws IOException {
+        return existsAll(body, contentLength, false);
+    }
+
+    /*
+     * As of existsAll, the bit set of the words found: the format is picked
+     * by the negotiation of the mappings (q-values included), of `produces`.
+     */
+    @PostMapping(value = "/exists", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Object> existsAllAsBits(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength)
+            throws IOException {
+        return existsAll(body, contentLength, true);
+    }
+
+    @PostMapping(value = "/exists", consumes = MediaType.TEXT_PLAIN_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> existsAllLines(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType) throws IOException {
+        return existsAllLines(body, contentLength, contentType, false);
+    }
+
+    @PostMapping(value = "/exists", consumes = MediaType.TEXT_PLAIN_VALUE,
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Object> existsAllLinesAsBits(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType) throws IOException {
+        return existsAllLines(body, contentLength, contentType, true);
+    }
+
+    private ResponseEntity<Object> existsAll(InputStream body, Long contentLength, boolean asBits)
+            throws IOException {
+        if (contentLength != null && contentLength > MAX_BATCH_BYTES) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        // streamed, so a batch of too many words is rejected once one too many is read
+        List<String> words = new ArrayList<>();
+        try (JsonParser parser = JSON.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return ResponseEntity.badRequest().build();
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_STRING) {
+                    words.add(parser.getText());
+                } else if (token == JsonToken.VALUE_NULL) {
+                    words.add(null);
+                } else {
+                    return ResponseEntity.badRequest().build();
+                }
+                if (words.size() > MAX_BATCH_SIZE) {
+                    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            LOG.debug("rejected exists batch: {}", e.getOriginalMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return exists(words, asBits);
+    }
+
+    private ResponseEntity<Object> existsAllLines(InputStream body, Long contentLength, String contentType,
+            boolean asBits) throws IOException {
+        if (contentLength != null && contentLength > MAX_BATCH_BYTES) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
         }
-        Collection<String> words = this.jumbleEngine.wordsMatchingPrefix(prefix);
-        return new ResponseEntity<>(words, HttpStatus.OK);
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        if (charset == null) {
+            charset = StandardCharsets.UTF_8;
+        }
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset))) {
+            // the line break of the last line ends it, not followed by an empty line
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                words.add(line);
+                if (words.size() > MAX_BATCH_SIZE) {
+                    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+                }
+            }
+        }
+        return exists(words, asBits);
+    }
+
+    private ResponseEntity<Object> exists(List<String> words, boolean asBits) {
+        List<String> trimmed = new ArrayList<>(words.size());
+        for (String word : words) {
+            trimmed.add(word == null ? null : word.trim());
+        }
+        long[] bits = this.jumbleEngine.existsAll(trimmed);
+        LOG.debug("checked {} words", trimmed.size());
+        if (asBits) {
+            byte[] bytes = new byte[(trimmed.size() + 7) >>> 3];
+            for (int ix = 0; ix < bytes.length; ix += 1) {
+                bytes[ix] = (byte) (bits[ix >>> 3] >>> ((ix & 7) << 3));
+            }
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(bytes);
+        }
+        boolean[] found = new boolean[trimmed.size()];
+        for (int ix = 0; ix < found.length; ix += 1) {
+            found[ix] = (bits[ix >>> 6] & (1L << ix)) != 0;
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(found);
+    }
+
+    @Operation(
+            summary = "Streams the sub words",
+            description = "Streams the sub words of `word` (of at least `minLength` letters, default 3) " +
+                    "as Server-Sent Events, as soon as found: `words` events of the sub words found since the " +
+                    "previous event (in dictionary order), then a `done` event of the `total`. The sub words " +
+                    "are not collected on the server, whatever their number. If the server gets busy while " +
+                    "streaming, a `busy` event ends the stream instead of `done`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The sub words of \"yellow\".",
+                                                    value = "event:words\n" +
+                                                            "data:[\"low\"]\n" +
+                                                            "\n" +
+                                                            "event:words\n" +
+                                                            "data:[\"lowly\",\"lye\",\"ole\",\"owe\",\"owl\",\"well\",\"welly\",\"woe\",\"yell\",\"yeow\",\"yew\",\"yowl\"]\n" +
+                                                            "\n" +
+                                                            "event:done\n" +
+                                                            "data:{\"total\":13}\n" +
+                                                            "\n") })),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Service Unavailable",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_PLAIN_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Busy",
+                                                    description = "Too many sub words being generated, retry after `Retry-After` seconds.",
+                                                    value = "Server busy, please retry later.") })) })
+    @GetMapping(value = "/{word}/subwords", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSubWords(
+            @Parameter(
+                    description = "The word to use as base/seed.",
+                    required = true,
+                    example = "yellow")
+            @PathVariable(value = "word") String word,
+            @Parameter(
+                    description = "The minimum length (inclusive) of sub words, default 3.",
+                    example = "3")
+            @RequestParam(value = "minLength", required = false) Integer minLength) {
+        SubWordStream subWords = this.jumbleEngine.streamSubWords(word.trim(), minLength);
+        // the first sub word found as soon as possible, and the request rejected (503) if the bulkhead is full
+        CompletableFuture<List<String>> first = this.bulkhead.submit(() -> subWords.next(1));
+        SubWordsEmitter emitter = new SubWordsEmitter();
+        this.streamExecutor.execute(() -> stream(word.trim(), subWords, first, emitter));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(emitter);
+    }
+
+    /*
+     * Written on the stream executor, blocking on the client: one event kept at most. The walk runs on the
+     * engine bulkhead, a chunk at a time, so a slow client never holds a thread of the bulkhead.
+     */
+    private void stream(String letters, SubWordStream subWords, CompletableFuture<List<String>> first,
+            SubWordsEmitter emitter) {
+        try {
+            if (!emitter.awaitInitialized()) {
+                LOG.warn("sub words of {} not streamed, response not initialized", letters);
+                emitter.complete();
+                return;
+            }
+            CompletableFuture<List<String>> next = first;
+            while (true) {
+                List<String> words = next.get();
+                if (!words.isEmpty()) {
+                    emitter.send(SseEmitter.event().name("words").data(words, MediaType.APPLICATION_JSON));
+                }
+                if (subWords.isDone()) {
+                    break;
+                }
+                next = this.bulkhead.submit(() -> subWords.next(SUB_WORDS_EVENT_SIZE));
+            }
+            emitter.send(SseEmitter.event().name("done")
+                    .data(Collections.singletonMap("total", subWords.getTotal()), MediaType.APPLICATION_JSON));
+            emitter.complete();
+            LOG.info("streamed {} sub words of {}", subWords.getTotal(), letters);
+        } catch (RejectedExecutionException e) {
+            // the response already started, too late for a 503
+            LOG.debug("sub words of {} not streamed, bulkhead full: {}", letters, e.getMessage());
+            try {
+                emitter.send(SseEmitter.event().name("busy").data("Server busy, please retry later."));
+                emitter.complete();
+            } catch (IOException | IllegalStateException ignored) {
+                // the client gone meanwhile
+            }
+        } catch (IOException | IllegalStateException e) {
+            // the client gone, or the response timed out
+            LOG.debug("sub words of {} not streamed: {}", letters, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (ExecutionException e) {
+            LOG.error("error on streaming sub words of {}: {}", letters, e.getCause().getMessage(), e.getCause());
+            emitter.completeWithError(e.getCause());
+        }
+    }
+
+    /*
+     * The engine bulkhead or the stream executor full: the client to retry later, the other endpoints still
+     * served.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> busy(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Server busy, please retry later.");
+    }
+
+    @Operation(
+            summary = "Palindrome words",
+            description = "Returns the words (of more than one letter) which are the same when reversed.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of palindrome words.",
+                                                    value = "[\n" +
+                                                            "  \"aha\",\n" +
+                                                            "  \"bib\",\n" +
+                                                            "  \"civic\"\n" +
+                                                            "]") })) })
+    @GetMapping(value = "/palindromes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> palindromes() {
+        return new ResponseEntity<>(this.jumbleEngine.retrievePalindromeWords(), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Semordnilap words",
+            description = "Returns the pairs of different words, each the other reversed. " +
+                    "Each pair once, as the word of lesser order to the other.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The semordnilap pairs.",
+                                                    value = "{\n" +
+                                                            "  \"deliver\": \"reviled\",\n" +
+                                                            "  \"desserts\": \"stressed\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/semordnilaps", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, String>> semordnilaps() {
+        return new ResponseEntity<>(this.jumbleEngine.retrieveSemordnilapWords(), HttpStatus.OK);
+    }
+
+    /*
+     * The events sent before the response is initialized are kept until then, without bound: the sending
+     * waits for it instead. Extended right before initialized.
+     */
+    private static final class SubWordsEmitter extends SseEmitter {
+
+        private final CountDownLatch initialized = new CountDownLatch(1);
+
+        @Override
+        protected void extendResponse(ServerHttpResponse outputMessage) {
+            super.extendResponse(outputMessage);
+            initialized.countDown();
+        }
+
+        boolean awaitInitialized() throws InterruptedException {
+            return initialized.await(10, TimeUnit.SECONDS);
+        }
+
     }
 
 }
@@ -0,0 +1,170 @@
+package com.wordgame.core;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Bounded executor of the CPU heavy engine calls (e.g. sub words of long
+ * words), apart from the request threads of the server: a burst of heavy
+ * requests waits in its queue, or is rejected once the queue is full,
+ * instead of taking all the request threads from the cheap requests.
+ *
+ * The tasks are counted, and their time waiting in the queue and running
+ * recorded.
+ */
+public class Bulkhead {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Bulkhead.class);
+
+    private final String name;
+
+    /*
+     * The threads running the tasks. 0 for the number of processors.
+     */
+    @Value("${jumble.engine.bulkhead.threads:0}")
+    private int threads;
+
+    /*
+     * The tasks waiting for a thread, at most. Then, the tasks are rejected.
+     */
+    @Value("${jumble.engine.bulkhead.queue-size:64}")
+    private int queueSize;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final LatencyRecorder waitLatency = new LatencyRecorder();
+
+    private final LatencyRecorder executionLatency = new LatencyRecorder();
+
+    public Bulkhead(String name) {
+        this.name = name;
+    }
+
+    @PostConstruct
+    public void init() {
+        int count = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger ids = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(count, count, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + ids.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        LOG.info("bulkhead {} of threads=[{}], queueSize=[{}]", name, count, Math.max(1, queueSize));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs `task` on a thread of the bulkhead.
+     *
+     * @param task  The task.
+     * @return  The result of `task`, once run; or its exception.
+     * @throws RejectedExecutionException  If the queue is full (or shut down).
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long queued = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                waitLatency.record(start - queued);
+                try {
+                    future.complete(task.get());
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    executionLatency.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            LOG.debug("bulkhead {} is full, rejected: {}", name, e.getMessage());
+            throw e;
+        }
+        return future;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * @return  The number of tasks running.
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return  The number of tasks waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return  The tasks waiting for a thread, at most.
+     */
+    public int getQueueCapacity() {
+        return executor.getQueue().size() + executor.getQueue().remainingCapacity();
+    }
+
+    /**
+     * @return  The number of tasks run (approximate, while running).
+     */
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * @return  The number of tasks rejected, the queue being full.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return  The time of the tasks waiting in the queue.
+     */
+    public LatencyRecorder getWaitLatency() {
+        return waitLatency;
+    }
+
+    /**
+     * @return  The time of the tasks running.
+     */
+    public LatencyRecorder getExecutionLatency() {
+        return executionLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "name=[" + name + "], threads=[" + getThreads() + "], active=[" + getActiveCount() + "], queueDepth=["
+                + getQueueDepth() + "], completed=[" + getCompletedCount() + "], rejected=[" + getRejectedCount()
+                + "], execution={" + executionLatency + '}';
+    }
+
+}
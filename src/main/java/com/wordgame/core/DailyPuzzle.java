@@ -0,0 +1,165 @@
+package com.wordgame.core;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import com.wordgame.dictionary.LengthBuckets;
+import com.wordgame.dictionary.WordDictionary;
+
+/**
+ * The puzzle of the day, same for all the players: the word, its scramble
+ * and its sub words, read-only. The players keep only their guessed words.
+ *
+ * The word and the scramble are picked by a random generator seeded by the
+ * date and the checksum of the dictionary words, so every node computes
+ * the same puzzle, without coordination, as long as of the same words.
+ */
+public final class DailyPuzzle {
+
+    /**
+     * The length of the word of the day.
+     */
+    public static final int LENGTH = 6;
+
+    /**
+     * The minimum length of the sub words.
+     */
+    public static final int MIN_LENGTH = 3;
+
+    private final LocalDate date;
+
+    private final long checksum;
+
+    private final String original;
+
+    private final String scramble;
+
+    private final List<String> subWords;
+
+    private final Set<String> subWordSet;
+
+    private DailyPuzzle(LocalDate date, long checksum, String original, String scramble, List<String> subWords) {
+        this.date = date;
+        this.checksum = checksum;
+        this.original = original;
+        this.scramble = scramble;
+        this.subWords = Collections.unmodifiableList(new ArrayList<>(subWords));
+        this.subWordSet = Collections.unmodifiableSet(new HashSet<>(subWords));
+    }
+
+    /**
+     * Computes the puzzle of `date`.
+     *
+     * @param date        The date of the puzzle.
+     * @param dictionary  The dictionary to pick the word from.
+     * @return  The puzzle, or null if no word of {@link #LENGTH}.
+     */
+    public static DailyPuzzle of(LocalDate date, WordDictionary dictionary) {
+        SplittableRandom random = new SplittableRandom(seed(date, dictionary.getChecksum()));
+        LengthBuckets buckets = dictionary.getLengthBuckets();
+        int count = buckets.count(LENGTH);
+        if (count == 0) {
+            return null;
+        }
+        String original = dictionary.getWord(buckets.id(LENGTH, random.nextInt(count)));
+        return new DailyPuzzle(date, dictionary.getChecksum(), original, scramble(original, random),
+                dictionary.subWords(original, MIN_LENGTH));
+    }
+
+    /*
+     * Mixes the day and the checksum (SplitMix64 finalizer), so close dates
+     * give unrelated seeds.
+     */
+    static long seed(LocalDate date, long checksum) {
+        long z = date.toEpochDay() * 0x9E3779B97F4A7C15L + checksum;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /*
+     * Shuffles the letters (Fisher-Yates), until not the same as the word.
+     */
+    private static String scramble(String word, SplittableRandom random) {
+        char[] letters = word.toCharArray();
+        for (int attempt = 0; attempt < 100; attempt += 1) {
+            for (int ix = letters.length - 1; ix > 0; ix -= 1) {
+                int jx = random.nextInt(ix + 1);
+                char ch = letters[ix];
+                letters[ix] = letters[jx];
+                letters[jx] = ch;
+            }
+            if (!word.contentEquals(new String(letters))) {
+                break;
+            }
+        }
+        return new String(letters);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * @return  The checksum of the dictionary words the puzzle is of.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public String getOriginal() {
+        return original;
+    }
+
+    public String getScramble() {
+        return scramble;
+    }
+
+    /**
+     * @return  The sub words to guess, in dictionary order. Read-only.
+     */
+    public List<String> getSubWords() {
+        return subWords;
+    }
+
+    public boolean isSubWord(String word) {
+        return word != null && subWordSet.contains(word);
+    }
+
+    public String getScrambleAsDisplay() {
+        List<String> list = new ArrayList<>();
+        for (char ch : this.scramble.toCharArray()) {
+            list.add(Character.toString(ch));
+        }
+        return String.join(" ", list);
+    }
+
+    /**
+     * @param guessed  The words guessed by a player.
+     * @return  The sub words guessed, by length then in dictionary order
+     *          (as {@link GameState#getGuessedWords()}).
+     */
+    public List<String> getGuessedWords(Collection<String> guessed) {
+        List<String> words = new ArrayList<>();
+        for (String word : subWords) {
+            if (guessed.contains(word)) {
+                words.add(word);
+            }
+        }
+        words.sort((a, b) -> a.length() != b.length() ? a.length() - b.length() : a.compareTo(b));
+        return words;
+    }
+
+    @Override
+    public String toString() {
+        return "date=[" + date + "], original=[" + original + "], scramble=[" + scramble + "], subWords.size=["
+                + subWords.size() + ']';
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.wordgame.core;
+
+import com.wordgame.dictionary.WordDictionary;
+
+/**
+ * The dictionary published by the engine, along with its version: 1 for the
+ * dictionary loaded at startup, incremented on each rebuild.
+ *
+ * Published as a whole, through a single volatile reference, so the version
+ * always matches the dictionary.
+ */
+public final class DictionarySnapshot {
+
+    private final long version;
+
+    private final WordDictionary dictionary;
+
+    public DictionarySnapshot(long version, WordDictionary dictionary) {
+        this.version = version;
+        this.dictionary = dictionary;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public String toString() {
+        return "version=[" + version + "], " + dictionary;
+    }
+
+}
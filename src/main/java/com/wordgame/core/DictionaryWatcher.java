@@ -0,0 +1,107 @@
+package com.wordgame.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the word list file, and calls back once it has changed.
+ *
+ * The directory of the file is watched (the `WatchService` does not watch
+ * single files). Editors and copies write a file in several steps, so the
+ * callback runs only once no more change is seen for the `quietPeriod`.
+ */
+public final class DictionaryWatcher implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DictionaryWatcher.class);
+
+    private final Path file;
+
+    private final long quietPeriodMillis;
+
+    private final Runnable onChange;
+
+    private final WatchService watchService;
+
+    private final Thread thread;
+
+    /**
+     * Starts watching `file`, on a daemon thread.
+     *
+     * @param file               The word list file.
+     * @param quietPeriodMillis  The time without change, before calling back.
+     * @param onChange           The callback, e.g. rebuilding the dictionary.
+     */
+    public DictionaryWatcher(Path file, long quietPeriodMillis, Runnable onChange) throws IOException {
+        this.file = file.toAbsolutePath().normalize();
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::run, "dictionary-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        LOG.info("watching {} for changes", this.file);
+    }
+
+    private void run() {
+        try {
+            boolean changed = false;
+            while (true) {
+                WatchKey key = changed
+                        ? watchService.poll(quietPeriodMillis, TimeUnit.MILLISECONDS)
+                        : watchService.take();
+                if (key == null) {
+                    // quiet since the last change
+                    changed = false;
+                    notifyChange();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || (context instanceof Path && file.getFileName().equals(context))) {
+                        changed = true;
+                    }
+                }
+                if (!key.reset()) {
+                    LOG.warn("stopped watching {}: directory no longer accessible", file);
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private void notifyChange() {
+        LOG.info("{} has changed", file);
+        try {
+            onChange.run();
+        } catch (RuntimeException e) {
+            LOG.error("error on handling change of {}: {}", file, e.getMessage(), e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.wordgame.core;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Pool of game states created ahead, so a new game is taken from the pool
+ * instead of being created (picking a word, scrambling it and generating
+ * its sub words) while the client waits.
+ *
+ * Each (length, minLength) has its own lock-free queue of ready games,
+ * refilled up to `size` by a background worker whenever a game is taken.
+ * A game is handed out once, as the game states are played (mutated).
+ * If the queue is empty, the game is created inline, and counted.
+ *
+ * The ready games are tagged with the version of the dictionary snapshot
+ * they are created from: once a new snapshot published (e.g. rebuilt),
+ * the games of the previous one are dropped, never handed out.
+ */
+public class GameStatePool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameStatePool.class);
+
+    private final JumbleEngine jumbleEngine;
+
+    /*
+     * The ready games kept, per (length, minLength). 0 to disable the pool.
+     */
+    @Value("${jumble.game.pool.size:16}")
+    private int size;
+
+    /*
+     * The (length, minLength) filled at startup, as "length/minLength",
+     * comma separated. The others are filled once first taken.
+     */
+    @Value("${jumble.game.pool.presets:6/3}")
+    private String presets;
+
+    private final Map<Long, Queue> queues = new ConcurrentHashMap<>();
+
+    private final ExecutorService refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-pool-refill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+    private final AtomicLong taken = new AtomicLong();
+
+    private final AtomicLong createdInline = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    public GameStatePool(JumbleEngine jumbleEngine) {
+        this.jumbleEngine = jumbleEngine;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (size <= 0 || presets == null) {
+            return;
+        }
+        for (String preset : presets.split(",")) {
+            String[] values = preset.trim().split("/");
+            if (values.length == 2) {
+                queue(Integer.parseInt(values[0].trim()), Integer.parseInt(values[1].trim()));
+            } else if (!preset.trim().isEmpty()) {
+                LOG.warn("skipping invalid game pool preset=[{}], expect length/minLength", preset);
+            }
+        }
+        scheduleRefill();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refillExecutor.shutdownNow();
+    }
+
+    /**
+     * Takes a new game state, from the pool if any ready. Else, creates it.
+     *
+     * @param length     The length of selected word, see {@link JumbleEngine#createGameState(Integer, Integer)}.
+     * @param minLength  The minimum length (inclusive) of sub words, or null for 3.
+     * @return  The game state, never handed out before.
+     * @throws IllegalArgumentException  If invalid `length` or `minLength`.
+     */
+    public GameState take(Integer length, Integer minLength) {
+        Objects.requireNonNull(length, "length must not be null");
+        int min = minLength == null ? 3 : minLength;
+        if (size <= 0) {
+            return jumbleEngine.createGameState(length, min);
+        }
+        Queue queue = queue(length, min);
+        long version = jumbleEngine.getDictionarySnapshot().getVersion();
+        GameState state = null;
+        Ready ready;
+        while (state == null && (ready = queue.games.poll()) != null) {
+            queue.count.decrementAndGet();
+            if (ready.version == version) {
+                state = ready.state;
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+        if (state != null) {
+            taken.incrementAndGet();
+        } else {
+            createdInline.incrementAndGet();
+            LOG.debug("game pool of length=[{}], minLength=[{}] is empty, creating inline", length, min);
+            state = jumbleEngine.createGameState(length, min);
+        }
+        scheduleRefill();
+        return state;
+    }
+
+    private Queue queue(int length, int minLength) {
+        long key = key(length, minLength);
+        Queue queue = queues.get(key);
+        if (queue == null) {
+            // the first game created as validation, before queueing games which could not be created.
+            // Outside of computeIfAbsent, not to hold the lock of the map bin while creating
+            Ready first = create(length, minLength);
+            queue = queues.computeIfAbsent(key, k -> new Queue(length, minLength));
+            queue.games.offer(first);
+            queue.count.incrementAndGet();
+        }
+        return queue;
+    }
+
+    /*
+     * Tagged with the version read before, so a game created while a new
+     * snapshot is published is dropped (rather than kept while stale).
+     */
+    private Ready create(int length, int minLength) {
+        long version = jumbleEngine.getDictionarySnapshot().getVersion();
+        return new Ready(version, jumbleEngine.createGameState(length, minLength));
+    }
+
+    private static long key(int length, int minLength) {
+        return ((long) length << 32) | (minLength & 0xFFFFFFFFL);
+    }
+
+    private void scheduleRefill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            try {
+                refillExecutor.execute(this::refill);
+            } catch (RuntimeException e) {
+                // shut down
+                refillScheduled.set(false);
+            }
+        }
+    }
+
+    private void refill() {
+        refillScheduled.set(false);
+        long version = jumbleEngine.getDictionarySnapshot().getVersion();
+        for (Queue queue : queues.values()) {
+            try {
+                for (Ready ready : queue.games) {
+                    if (ready.version != version && queue.games.remove(ready)) {
+                        queue.count.decrementAndGet();
+                        dropped.incrementAndGet();
+                    }
+                }
+                while (queue.count.get() < size && !Thread.currentThread().isInterrupted()) {
+                    queue.games.offer(create(queue.length, queue.minLength));
+                    queue.count.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                LOG.error("error on filling game pool of length=[{}], minLength=[{}]: {}",
+                        queue.length, queue.minLength, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return  The number of ready games, of all (length, minLength).
+     */
+    public int getReadyCount() {
+        int count = 0;
+        for (Queue queue : queues.values()) {
+            count += queue.count.get();
+        }
+        return count;
+    }
+
+    /**
+     * @return  The number of games taken from the pool.
+     */
+    public long getTakenCount() {
+        return taken.get();
+    }
+
+    /**
+     * @return  The number of games created inline, the pool being empty.
+     */
+    public long getCreatedInlineCount() {
+        return createdInline.get();
+    }
+
+    /**
+     * @return  The number of ready games dropped, created from a previous
+     *          dictionary snapshot.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "size=[" + size + "], ready=[" + getReadyCount() + "], taken=[" + getTakenCount()
+                + "], createdInline=[" + getCreatedInlineCount() + "], dropped=[" + getDroppedCount() + ']';
+    }
+
+    /*
+     * The ready games of a (length, minLength). The count is kept apart, as
+     * the size of the queue is not constant time.
+     */
+    private static final class Queue {
+
+        private final int length;
+
+        private final int minLength;
+
+        private final ConcurrentLinkedQueue<Ready> games = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        Queue(int length, int minLength) {
+            this.length = length;
+            this.minLength = minLength;
+        }
+
+    }
+
+    /*
+     * A ready game, and the version of the dictionary snapshot it is created from.
+     */
+    private static final class Ready {
+
+        private final long version;
+
+        private final GameState state;
+
+        Ready(long version, GameState state) {
+            this.version = version;
+            this.state = state;
+        }
+
+    }
+
+}
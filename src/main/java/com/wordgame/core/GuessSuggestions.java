@@ -0,0 +1,40 @@
+package com.wordgame.core;
+
+import java.util.List;
+
+/**
+ * The words suggested for a wrong guess ("did you mean"), the closest
+ * first: the sub words of the game still to guess, and the other words of
+ * the dictionary.
+ */
+public final class GuessSuggestions {
+
+    private final List<String> subWords;
+
+    private final List<String> words;
+
+    GuessSuggestions(List<String> subWords, List<String> words) {
+        this.subWords = subWords;
+        this.words = words;
+    }
+
+    /**
+     * @return  The sub words of the game (not guessed yet) close to the guess.
+     */
+    public List<String> getSubWords() {
+        return subWords;
+    }
+
+    /**
+     * @return  The other words of the dictionary close to the guess.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    @Override
+    public String toString() {
+        return "subWords=" + subWords + ", words=" + words;
+    }
+
+}
@@ -5,20 +5,323 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 
-import java.io.*;
+import com.wordgame.dictionary.BitmapIndex;
+import com.wordgame.dictionary.DictionaryLoader;
+import com.wordgame.dictionary.LetterHistogram;
+import com.wordgame.dictionary.WordDictionary;
+
+import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 @Slf4j
 public class JumbleEngine {
 
     private static final Logger log = LoggerFactory.getLogger(JumbleEngine.class);
 
-    @Value("${jumble.engine.words.txt.path}")
+    /*
+     * The words of a batch of exists looked up by a task, a multiple of 64.
+     */
+    private static final int EXISTS_CHUNK_SIZE = 16 * 1024;
+
+    /*
+     * The word list file. If not found (e.g. running from the packaged jar),
+     * or not set, the word list is read from the classpath.
+     */
+    @Value("${jumble.engine.words.txt.path:}")
     private String wordsPath;
 
+    /*
+     * The word frequencies file ("word count" lines), for ranking the
+     * completions of a prefix. Not set by default: no ranking.
+     */
+    @Value("${jumble.engine.words.frequencies.path:}")
+    private String frequenciesPath;
+
+    /*
+     * The false positive rate of the Bloom filter of the words, consulted
+     * before the exact index for lookups of words (mostly not found). 0 to
+     * disable the filter (the default: one more probe on every hit).
+     */
+    @Value("${jumble.engine.words.bloom.false-positive-rate:0}")
+    private double bloomFalsePositiveRate;
+
+    /*
+     * Counts one in so many single lookups through the Bloom filter, to keep
+     * the shared counters off most lookups. 0 to count none.
+     */
+    @Value("${jumble.engine.words.bloom.stats-sampling:64}")
+    private int bloomStatsSampling;
+
+    /*
+     * Seed for picking random words, for reproducible games (e.g. tests).
+     * Not set by default, to be truly random.
+     */
+    @Value("${jumble.engine.random.seed:#{null}}")
+    private Long randomSeed;
+
+    /*
+     * Watches the word list file, and rebuilds the dictionary once changed.
+     */
+    @Value("${jumble.engine.words.watch:false}")
+    private boolean watchWords;
+
+    @Value("${jumble.engine.words.watch.quiet-period-ms:500}")
+    private long watchQuietPeriodMillis;
+
+    /*
+     * Threads generating the sub words of long words in parallel. 0 for the
+     * number of processors, 1 to always generate sequentially.
+     */
+    @Value("${jumble.engine.subwords.parallelism:0}")
+    private int subWordsParallelism;
+
+    /*
+     * Words of at least this length have their sub words generated in
+     * parallel. Shorter words are fast enough, sequentially.
+     */
+    @Value("${jumble.engine.subwords.parallel.min-length:16}")
+    private int subWordsParallelMinLength;
+
+    private ForkJoinPool subWordsPool;
+
+    /*
+     * The sub words cached, by the letters of the words. 0 to disable.
+     */
+    @Value("${jumble.engine.subwords.cache.size:10000}")
+    private int subWordsCacheSize;
+
+    private SegmentedLruCache<SubWordsKey, int[]> subWordsCache;
+
+    private RandomWordPicker randomWordPicker = new RandomWordPicker();
+
+    /*
+     * The dictionary snapshot, loaded once and shared by all the queries.
+     * Replaced as a whole when rebuilt, so a query sees either the previous
+     * or the new snapshot, never a partly built one.
+     */
+    private volatile DictionarySnapshot snapshot;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    /*
+     * Rebuilds on a single background thread, one at a time.
+     */
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dictionary-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /*
+     * The rebuild requested, but not started yet. Requests meanwhile share it.
+     */
+    private CompletableFuture<DictionarySnapshot> pendingRebuild;
+
+    private volatile boolean rebuilding;
+
+    private DictionaryWatcher watcher;
+
+    /*
+     * The latencies of finding the words similar to a guess.
+     */
+    private final LatencyRecorder suggestLatency = new LatencyRecorder();
+
+    /*
+     * The last daily puzzle computed, shared by all the players of the day.
+     */
+    private volatile DailyPuzzle dailyPuzzle;
+
+    /*
+     * Held while computing the daily puzzle, apart from the rebuild monitor
+     * (this): the computation does not delay a rebuild nor its status.
+     */
+    private final Object dailyPuzzleLock = new Object();
+
+    /**
+     * Loads the dictionary snapshot eagerly, so the first request does not
+     * pay for reading the word list. And starts watching the word list, if
+     * enabled.
+     */
+    @PostConstruct
+    public void init() {
+        if (randomSeed != null) {
+            randomWordPicker = new RandomWordPicker(randomSeed);
+        }
+        int parallelism = subWordsParallelism > 0 ? subWordsParallelism : Runtime.getRuntime().availableProcessors();
+        if (parallelism > 1) {
+            subWordsPool = new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("subwords-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        if (subWordsCacheSize > 0) {
+            subWordsCache = new SegmentedLruCache<>(subWordsCacheSize);
+        }
+        getDictionary();
+        if (watchWords && wordsPath != null && Files.isRegularFile(Paths.get(wordsPath.trim()))) {
+            try {
+                watcher = new DictionaryWatcher(Paths.get(wordsPath.trim()), watchQuietPeriodMillis, this::rebuildDictionary);
+            } catch (IOException e) {
+                log.error("error on watching {}: {}", wordsPath, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+        rebuildExecutor.shutdownNow();
+        if (subWordsPool != null) {
+            subWordsPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the dictionary snapshot, loading it on first access.
+     *
+     * @return  The dictionary snapshot.
+     */
+    public WordDictionary getDictionary() {
+        return getDictionarySnapshot().getDictionary();
+    }
+
+    /**
+     * Returns the dictionary snapshot along with its version, loading it on
+     * first access. Never blocks on a rebuild.
+     *
+     * @return  The current dictionary snapshot.
+     */
+    public DictionarySnapshot getDictionarySnapshot() {
+        DictionarySnapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null) {
+                    current = new DictionarySnapshot(versions.incrementAndGet(), loadDictionary());
+                    this.snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private WordDictionary loadDictionary() {
+        WordDictionary dictionary = DictionaryLoader.load(wordsPath, frequenciesPath);
+        if (bloomFalsePositiveRate > 0) {
+            dictionary = dictionary.withBloomFilter(bloomFalsePositiveRate, bloomStatsSampling);
+            log.info("built Bloom filter of the words: {}", dictionary.getBloomFilter());
+        }
+        return dictionary;
+    }
+
+    /**
+     * Rebuilds the dictionary from the word list, in the background. The new
+     * snapshot replaces the current one once completely built; meanwhile, the
+     * queries keep using the current one.
+     *
+     * Requested while a rebuild is running, another rebuild follows it (the
+     * word list may have changed since it started). Requested again before
+     * that one starts, the same rebuild is returned.
+     *
+     * @return  The new snapshot, once published.
+     */
+    public synchronized CompletableFuture<DictionarySnapshot> rebuildDictionary() {
+        if (pendingRebuild == null) {
+            CompletableFuture<DictionarySnapshot> rebuild = new CompletableFuture<>();
+            pendingRebuild = rebuild;
+            rebuildExecutor.execute(() -> rebuild(rebuild));
+        }
+        return pendingRebuild;
+    }
+
+    private void rebuild(CompletableFuture<DictionarySnapshot> rebuild) {
+        synchronized (this) {
+            pendingRebuild = null;
+        }
+        rebuilding = true;
+        DictionarySnapshot rebuilt = null;
+        RuntimeException error = null;
+        try {
+            WordDictionary dictionary = loadDictionary();
+            DictionarySnapshot current = getDictionarySnapshot();
+            if (dictionary.size() == 0 && current.getDictionary().size() > 0) {
+                // e.g. the word list removed, or not readable (logged by the loader)
+                throw new IllegalStateException("rebuilt dictionary is empty, keeping version " + current.getVersion());
+            }
+            rebuilt = new DictionarySnapshot(versions.incrementAndGet(), dictionary);
+            this.snapshot = rebuilt;
+            if (subWordsCache != null) {
+                // keyed by version, never hit again
+                subWordsCache.clear();
+            }
+            log.info("published dictionary {}", rebuilt);
+        } catch (RuntimeException e) {
+            log.error("error on rebuilding dictionary: {}", e.getMessage(), e);
+            error = e;
+        } finally {
+            rebuilding = false;
+        }
+        // completed once done, so the callers see it done
+        if (error == null) {
+            rebuild.complete(rebuilt);
+        } else {
+            rebuild.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * @return  true while a rebuild of the dictionary is requested or running.
+     */
+    public synchronized boolean isRebuildingDictionary() {
+        return rebuilding || pendingRebuild != null;
+    }
+
+    /**
+     * Returns the puzzle of `date`, the same on every node of the same
+     * words: see {@link DailyPuzzle}. Computed once, then shared (read-only)
+     * until the date or the dictionary words change.
+     *
+     * @param date  The date of the puzzle, e.g. today in UTC.
+     * @return  The puzzle.
+     * @throws IllegalArgumentException  If no word to create the puzzle.
+     */
+    public DailyPuzzle getDailyPuzzle(LocalDate date) {
+        Objects.requireNonNull(date, "date must not be null");
+        WordDictionary dictionary = getDictionary();
+        DailyPuzzle current = this.dailyPuzzle;
+        if (current == null || !current.getDate().equals(date) || current.getChecksum() != dictionary.getChecksum()) {
+            synchronized (dailyPuzzleLock) {
+                current = this.dailyPuzzle;
+                if (current == null || !current.getDate().equals(date)
+                        || current.getChecksum() != dictionary.getChecksum()) {
+                    current = DailyPuzzle.of(date, dictionary);
+                    if (current == null) {
+                        throw new IllegalArgumentException("Cannot find valid word to create daily puzzle");
+                    }
+                    this.dailyPuzzle = current;
+                    log.info("computed daily puzzle date=[{}], subWords.size=[{}]", date, current.getSubWords().size());
+                }
+            }
+        }
+        return current;
+    }
 
     /**
      * From the input `word`, produces/generates a copy which has the same
@@ -91,19 +394,21 @@ public class JumbleEngine {
          * Must pass the corresponding unit tests.
          */
 
-        List<String> words = loadWords();
-        List<String> palindromeWords = new ArrayList<>();
-        try{
-            for(String word:words){
-                if (word.length() > 1 && isPalindrome(word)) {
-                    palindromeWords.add(word);
-                }
-            }
-        } catch (Exception e) {
-            log.error("error on retrievePalindromeWords {}",e.getMessage());
-        }
+        // Computed once, when the dictionary snapshot is built
+        return getDictionary().getDerivedWordSets().getPalindromes();
+    }
 
-        return palindromeWords;
+    /**
+     * Retrieves the semordnilap words from the internal word list: pairs of
+     * different words, each the other reversed.
+     *
+     * Examples: "deliver" and "reviled", "stressed" and "desserts".
+     *
+     * @return  The semordnilap pairs, each pair once (the word of lesser
+     *          order to the other), in dictionary order. Read-only.
+     */
+    public Map<String, String> retrieveSemordnilapWords() {
+        return getDictionary().getDerivedWordSets().getSemordnilaps();
     }
 
     /**
@@ -115,6 +420,7 @@ public class JumbleEngine {
      * c) bonus points, if able to implement a fast lookup/scheme
      *
      * @param length  The word picked, must of length.
+     *                If null, picks from all the words.
      * @return  One of the word (randomly) from word list.
      *          Or null if none matching.
      */
@@ -124,22 +430,23 @@ public class JumbleEngine {
          * Must pass the corresponding unit tests.
          */
 
-        //simplest ways is to find direct the string inside the words.txt
+        // Uniform pick, from the words bucketed by length
+        return randomWordPicker.pick(getDictionary(), length);
+    }
 
-        List<String> words = loadWords();
-        if(length==null){
-            return "null";
-        }
-        try{
-            for(String word:words){
-                if (word.length() == length) {
-                    return word;
-                }
-            }
-        } catch (Exception e) {
-            log.error("error on pickOneRandomWord {}",e.getMessage());
-        }
-        return null;
+    /**
+     * Picks `n` words randomly from internal word list.
+     *
+     * @param length           The words picked, must of length.
+     *                         If null, picks from all the words.
+     * @param n                The number of words to pick.
+     * @param withReplacement  true if same word may be picked more than once.
+     *                         Else, returns at most all the words of `length`.
+     * @return  The words picked (randomly), in random order.
+     *          Or empty list if none matching.
+     */
+    public List<String> pickRandomWords(Integer length, int n, boolean withReplacement) {
+        return randomWordPicker.pick(getDictionary(), length, n, withReplacement);
     }
 
     /**
@@ -163,9 +470,34 @@ public class JumbleEngine {
             return false;
         }
 
-        List<String> words = loadWords();
-        // Case-insensitive lookup
-        return words.contains(word.toLowerCase());
+        // Case-insensitive lookup, through the Bloom filter then the hash index of the snapshot
+        return getDictionary().contains(word);
+    }
+
+    /**
+     * Checks if each of the `words` exists in the dictionary, as of
+     * {@link #exists(String)}, in a batch.
+     *
+     * Large batches are split into chunks looked up in parallel, by the
+     * fork/join pool of the engine (see `jumble.engine.subwords.parallelism`).
+     *
+     * @param words  The words to check.
+     * @return  The bit set of the words found: the bit `i % 64` of the long
+     *          `i / 64` set if the word `i` exists.
+     */
+    public long[] existsAll(List<String> words) {
+        WordDictionary dictionary = getDictionary();
+        int size = words.size();
+        long[] bits = new long[(size + 63) >>> 6];
+        if (subWordsPool == null || size < 2 * EXISTS_CHUNK_SIZE) {
+            dictionary.containsAll(words, 0, size, bits);
+            return bits;
+        }
+        int chunks = (size + EXISTS_CHUNK_SIZE - 1) / EXISTS_CHUNK_SIZE;
+        // chunks of whole longs, so each long is written by one thread only
+        subWordsPool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> dictionary.containsAll(words,
+                chunk * EXISTS_CHUNK_SIZE, Math.min(size, (chunk + 1) * EXISTS_CHUNK_SIZE), bits))).join();
+        return bits;
     }
 
     /**
@@ -189,24 +521,157 @@ public class JumbleEngine {
          * Refer to the method's Javadoc (above) and implement accordingly.
          * Must pass the corresponding unit tests.
          */
-        List<String> words = loadWords();
         // Return an empty list for invalid prefix (null, empty, or non-letter)
-        if (prefix == null || prefix.trim().isEmpty() || !prefix.matches("[a-zA-Z]+")) {
+        if (!isLetters(prefix)) {
             return Collections.emptyList();
         }
 
-        // Convert the prefix to lowercase for case-insensitive matching
-        String lowerPrefix = prefix.toLowerCase();
+        // Range of the sorted words beginning with the prefix, as a view (no copying)
+        return getDictionary().wordsWithPrefix(prefix);
+    }
 
-        // Filter words that start with the given prefix
-        List<String> matchingWords = new ArrayList<>();
-        for (String word : words) {
-            if (word.startsWith(lowerPrefix)) {
-                matchingWords.add(word);
+    /**
+     * Suggests the words close to `word` (e.g. a guess mistyped): within 1
+     * edit (insertion, deletion or substitution of a letter) for words of up
+     * to 4 letters, else 2. See {@link #suggestWords(String, int)}.
+     *
+     * @param word  The word.
+     * @return  The similar words, the closest first.
+     */
+    public List<String> suggestWords(String word) {
+        return suggestWords(word, word != null && word.trim().length() <= 4 ? 1 : 2);
+    }
+
+    /**
+     * Suggests the words within `maxDistance` edits of `word`, other than
+     * `word` itself. Matching is case insensitive. The latency is recorded,
+     * see {@link #getSuggestLatency()}.
+     *
+     * Invalid `word` (null, empty string, non letter, or longer than 30
+     * letters) will return empty list.
+     *
+     * @param word         The word.
+     * @param maxDistance  The maximum edit distance, from 1 to 2.
+     * @return  The similar words, the closest first, then in dictionary order.
+     * @throws IllegalArgumentException  If invalid `maxDistance`.
+     */
+    public List<String> suggestWords(String word, int maxDistance) {
+        if (maxDistance < 1 || maxDistance > 2) {
+            throw new IllegalArgumentException("Invalid maxDistance=[" + maxDistance + "], expect 1 or 2");
+        }
+        String value = word == null ? null : word.trim();
+        if (!isLetters(value) || value.length() > 30) {
+            return Collections.emptyList();
+        }
+        long start = System.nanoTime();
+        List<String> words = getDictionary().similarWords(value, maxDistance);
+        suggestLatency.record(System.nanoTime() - start);
+        return words;
+    }
+
+    /**
+     * Suggests the words close to a wrong `guess`, see {@link #suggestWords(String)}:
+     * the sub words of the game, and the other words of the dictionary.
+     *
+     * @param guess     The word guessed.
+     * @param isSubWord Tests if a word is a sub word of the game, not guessed yet.
+     * @param limit     The maximum number of words, of each.
+     * @return  The suggestions, the closest first.
+     */
+    public GuessSuggestions suggestGuesses(String guess, Predicate<String> isSubWord, int limit) {
+        List<String> subWords = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        for (String word : suggestWords(guess)) {
+            if (isSubWord.test(word)) {
+                if (subWords.size() < limit) {
+                    subWords.add(word);
+                }
+            } else if (words.size() < limit) {
+                words.add(word);
             }
         }
+        return new GuessSuggestions(subWords, words);
+    }
 
-        return matchingWords;
+    /**
+     * @return  The latencies of {@link #suggestWords(String, int)}.
+     */
+    public LatencyRecorder getSuggestLatency() {
+        return suggestLatency;
+    }
+
+    /**
+     * Finds all the words matching the wildcard `pattern`, e.g. "c?t*s":
+     * '?' matches any one letter, and '*' any letters (none included).
+     * Matching is case insensitive.
+     *
+     * Invalid `pattern` (null, empty string, other than letters and
+     * wildcards, or longer than {@link com.wordgame.dictionary.Dawg#MAX_PATTERN_LENGTH}) will return
+     * empty list.
+     *
+     * @param pattern  The pattern to match.
+     * @return  The list of words matching the pattern, in dictionary order.
+     */
+    public List<String> wordsMatchingPattern(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return Collections.emptyList();
+        }
+        for (int ix = 0; ix < pattern.length(); ix += 1) {
+            char ch = pattern.charAt(ix);
+            if (ch != '?' && ch != '*' && !Character.isLetter(ch)) {
+                return Collections.emptyList();
+            }
+        }
+        try {
+            return getDictionary().wordsMatching(pattern);
+        } catch (IllegalArgumentException e) {
+            log.debug("invalid pattern: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Finds the `k` most frequent words beginning with `prefix`, as of the
+     * word frequencies (if loaded), without sorting all the matching words.
+     * Matching is case insensitive, and invalid `prefix` as of
+     * {@link #wordsMatchingPrefix(String)}.
+     *
+     * @param prefix  The prefix to match.
+     * @param k       The maximum number of words.
+     * @return  The words, the most frequent first, then in dictionary order.
+     */
+    public List<String> topWordsMatchingPrefix(String prefix, int k) {
+        if (!isLetters(prefix) || k <= 0) {
+            return Collections.emptyList();
+        }
+        return getDictionary().topWordsWithPrefix(prefix, k);
+    }
+
+    /**
+     * Returns a page of the words beginning with `prefix`, as of
+     * {@link #wordsMatchingPrefix(String)}: at most `limit` words, from
+     * `cursor`. The page is a view of the prefix range, so costs as its
+     * size, whatever the number of matching words.
+     *
+     * @param prefix  The prefix to match.
+     * @param cursor  The cursor of the page (from the previous page), or
+     *                null for the first page.
+     * @param limit   The maximum number of words, positive.
+     * @return  The page of words, with the total of matching words.
+     * @throws IllegalArgumentException  If invalid `limit` or `cursor`, or
+     *         the cursor is of a previous dictionary.
+     */
+    public WordPage wordsMatchingPrefix(String prefix, String cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit=[" + limit + "], expect positive integer");
+        }
+        WordDictionary dictionary = getDictionary();
+        int offset = cursor == null ? 0 : WordPage.decodeCursor(cursor, dictionary.getChecksum());
+        List<String> words = isLetters(prefix) ? dictionary.wordsWithPrefix(prefix) : Collections.emptyList();
+        int from = Math.min(offset, words.size());
+        int to = (int) Math.min((long) from + limit, words.size());
+        String nextCursor = to < words.size() ? WordPage.encodeCursor(dictionary.getChecksum(), to) : null;
+        return new WordPage(words.subList(from, to), words.size(), nextCursor);
     }
 
     /**
@@ -239,33 +704,37 @@ public class JumbleEngine {
          * Must pass the corresponding unit tests.
          */
         // Validate input: at least one of the inputs should be valid
-        if ((startChar == null || !isValidChar(startChar)) &&
-                (endChar == null || !isValidChar(endChar)) &&
-                (length == null || length <= 0)) {
+        if (!hasSearchCriteria(startChar, endChar, length)) {
             return Collections.emptyList();
         }
 
-        // Convert characters to lowercase for case-insensitive matching
-        Character lowerStartChar = startChar != null ? Character.toLowerCase(startChar) : null;
-        Character lowerEndChar = endChar != null ? Character.toLowerCase(endChar) : null;
-
-        return getStrings(length, lowerStartChar, lowerEndChar);
+        // Intersects the bitmaps of the given criteria (case-insensitive letters)
+        return getDictionary().search(
+                BitmapIndex.letter(startChar), BitmapIndex.letter(endChar), BitmapIndex.length(length));
     }
 
-    private List<String> getStrings(Integer length, Character lowerStartChar, Character lowerEndChar) {
-
-        List<String> words = loadWords();
-        List<String> matchingWords = new ArrayList<>();
-        for (String word : words) {
-            boolean matchesStart = (lowerStartChar == null || word.charAt(0) == lowerStartChar);
-            boolean matchesEnd = (lowerEndChar == null || word.charAt(word.length() - 1) == lowerEndChar);
-            boolean matchesLength = (length == null || word.length() == length);
-
-            if (matchesStart && matchesEnd && matchesLength) {
-                matchingWords.add(word);
-            }
+    /**
+     * Counts the words from internal word list that is matching the
+     * searching criteria, without listing the words.
+     *
+     * @param startChar  The first character of the word to search for.
+     * @param endChar    The last character of the word to match with.
+     * @param length     The length of the word to match.
+     * @return  The number of words matching the searching criteria.
+     * @see #searchWords(Character, Character, Integer)
+     */
+    public int countWords(Character startChar, Character endChar, Integer length) {
+        if (!hasSearchCriteria(startChar, endChar, length)) {
+            return 0;
         }
-        return matchingWords;
+        return getDictionary().getBitmapIndex().count(
+                BitmapIndex.letter(startChar), BitmapIndex.letter(endChar), BitmapIndex.length(length));
+    }
+
+    private boolean hasSearchCriteria(Character startChar, Character endChar, Integer length) {
+        return (startChar != null && isValidChar(startChar))
+                || (endChar != null && isValidChar(endChar))
+                || (length != null && length > 0);
     }
 
     /**
@@ -306,40 +775,147 @@ public class JumbleEngine {
             return Collections.emptyList();
         }
 
-        List<String> words = loadWords();
-        return getStrings(word, minLength, words);
+        // Same letters, same sub words (but the word itself): cached by the sorted letters
+        DictionarySnapshot current = getDictionarySnapshot();
+        WordDictionary dictionary = current.getDictionary();
+        int[] ids = subWordsCache == null
+                ? findSubWordIds(dictionary, word, minLength)
+                : subWordsCache.get(new SubWordsKey(current.getVersion(), signature(word), minLength),
+                        key -> findSubWordIds(dictionary, key.signature, key.minLength));
+        List<String> matchingWords = dictionary.withoutWord(ids, word);
+        log.info("validSubWords {}",matchingWords);
+        return matchingWords;
+    }
+
+    /**
+     * Generates the sub words of `word`, as {@link #generateSubWords(String, Integer)},
+     * pushing each sub word to `consumer` as soon as found, instead of
+     * returning them once all found (e.g. to stream them to the client).
+     * The sub words are not collected nor cached: the memory used is the
+     * same whatever their number.
+     *
+     * @param word       The input word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words, or
+     *                   null for 3.
+     * @param consumer   The consumer of the sub words, in dictionary order.
+     *                   Returns false to stop (e.g. the client gone).
+     * @return  The number of sub words pushed to `consumer`.
+     */
+    public int generateSubWords(String word, Integer minLength, Predicate<String> consumer) {
+        int min = minLength == null ? 3 : minLength;
+        if (word == null || word.isEmpty() || min < 1 || word.length() <= min) {
+            return 0;
+        }
+        int[] count = new int[1];
+        getDictionary().forEachSubWord(word, min, subWord -> {
+            count[0] += 1;
+            return consumer.test(subWord);
+        });
+        return count[0];
+    }
+
+    /**
+     * Generates the sub words of `word`, as {@link #generateSubWords(String, Integer)},
+     * in chunks found on demand: see {@link SubWordStream}. The sub words
+     * are not collected nor cached.
+     *
+     * @param word       The input word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words, or
+     *                   null for 3.
+     * @return  The stream of the sub words, of the current dictionary
+     *          snapshot. Empty if invalid `word` or `minLength`.
+     */
+    public SubWordStream streamSubWords(String word, Integer minLength) {
+        int min = minLength == null ? 3 : minLength;
+        if (word == null || word.isEmpty() || min < 1 || word.length() <= min) {
+            return new SubWordStream(null, word, min);
+        }
+        return new SubWordStream(getDictionary(), word, min);
     }
 
-    private static List<String> getStrings(String word, Integer minLength, List<String> words) {
+    /*
+     * Walks the automaton with the letters of the word, no dictionary scan.
+     * In parallel for long words, their walk visiting most of the automaton.
+     */
+    private int[] findSubWordIds(WordDictionary dictionary, String letters, int minLength) {
+        return subWordsPool != null && letters.length() >= subWordsParallelMinLength
+                ? dictionary.getDawg().subWords(letters, minLength, subWordsPool)
+                : dictionary.getDawg().subWords(letters, minLength);
+    }
 
-        word=word.toLowerCase();
-        Set<String> uniqueWords = new HashSet<>(words);
+    /*
+     * The letters of `word`, lower case and sorted: same for its anagrams.
+     */
+    private static String signature(String word) {
+        char[] letters = word.toLowerCase(Locale.ROOT).toCharArray();
+        Arrays.sort(letters);
+        return new String(letters);
+    }
 
-        List<String> matchingWords = new ArrayList<>();
-        for (String candidate : uniqueWords) {
-            if(!candidate.equals(word)) {
-                if (candidate.length() >= minLength && isCharacterMatchWithFrequency(word, candidate.toLowerCase())) {
-                    matchingWords.add(candidate);
-                }
-            }
-        }
-        log.info("validSubWords {}",matchingWords);
-        return matchingWords;
+    /**
+     * @return  The cache of the sub words, or null if disabled.
+     */
+    public SegmentedLruCache<?, int[]> getSubWordsCache() {
+        return subWordsCache;
     }
 
-    public static boolean isCharacterMatchWithFrequency(String word, String candidate) {
+    /*
+     * Key of the cached sub words. Of the snapshot version too, so the sub
+     * words computed with the previous snapshot are never returned.
+     */
+    private static final class SubWordsKey {
+
+        private final long version;
 
-        HashMap<Character, Integer> wordCharCount = getCharFrequency(word);
+        private final String signature;
+
+        private final int minLength;
+
+        SubWordsKey(long version, String signature, int minLength) {
+            this.version = version;
+            this.signature = signature;
+            this.minLength = minLength;
+        }
 
-        for (char c : candidate.toCharArray()) {
-            if (!wordCharCount.containsKey(c) || wordCharCount.get(c) == 0) {
-                return false; // Character not present or used too many times
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SubWordsKey)) {
+                return false;
             }
-            wordCharCount.put(c, wordCharCount.get(c) - 1); // Decrease the frequency count
+            SubWordsKey other = (SubWordsKey) obj;
+            return version == other.version && minLength == other.minLength && signature.equals(other.signature);
         }
-        return true;
+
+        @Override
+        public int hashCode() {
+            return (31 * Long.hashCode(version) + minLength) * 31 + signature.hashCode();
+        }
+
+    }
+
+    /**
+     * Checks if `candidate` is made of the letters of `word`, each letter
+     * used at most as many times as it occurs in `word`. Case insensitive.
+     *
+     * Compares packed letter histograms, without allocating.
+     */
+    public static boolean isSubWord(String word, String candidate) {
+        return LetterHistogram.isSubWord(word, candidate);
+    }
+
+    /**
+     * @deprecated  Use {@link #isSubWord(String, String)}, which does not
+     *              allocate a map of the letters of `word` for each call.
+     */
+    @Deprecated
+    public static boolean isCharacterMatchWithFrequency(String word, String candidate) {
+        return isSubWord(word, candidate);
     }
 
+    /**
+     * @deprecated  Use {@link LetterHistogram#of(CharSequence)}.
+     */
+    @Deprecated
     public static HashMap<Character, Integer> getCharFrequency(String word) {
         HashMap<Character, Integer> charCount = new HashMap<>();
         for (char c : word.toCharArray()) {
@@ -408,21 +984,12 @@ public class JumbleEngine {
     }
 
     /**
-     * * Loads the words from "src/main/resources/words.txt".
+     * Returns the words of the dictionary snapshot ("src/main/resources/words.txt").
+     *
+     * @return  The words, as read-only view.
      */
     public List<String> loadWords() {
-        List<String> words = new ArrayList<>();
-        Path path = Paths.get(wordsPath);
-
-        try (BufferedReader reader = Files.newBufferedReader(path)) {
-            String word;
-            while ((word = reader.readLine()) != null) {
-                words.add(word.trim());
-            }
-        } catch (IOException e) {
-            log.error("error on function loadWords{}",e.getMessage());
-        }
-        return words;
+        return getDictionary().getWords();
     }
 
     /**
@@ -446,6 +1013,22 @@ public class JumbleEngine {
         }
     }
 
+    /**
+     * Checks if the text is not empty, and of letters 'a' to 'z' (or 'A' to 'Z') only.
+     */
+    public static boolean isLetters(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return false;
+        }
+        for (int ix = 0; ix < text.length(); ix += 1) {
+            char ch = text.charAt(ix);
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if a character is a valid letter ('a' to 'z').
      */
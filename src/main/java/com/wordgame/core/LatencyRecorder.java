@@ -0,0 +1,83 @@
+package com.wordgame.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the latencies of an operation: the count, total and maximum, and
+ * a histogram of power of 2 microseconds buckets, for the percentiles.
+ *
+ * Thread safe, and lock free, so cheap enough to record every call.
+ */
+public final class LatencyRecorder {
+
+    /*
+     * Bucket `i` counts the latencies below 2^i microseconds (the first
+     * below 1us), the last all the others.
+     */
+    private static final int BUCKETS = 32;
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * @param nanos  The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+        long micros = TimeUnit.NANOSECONDS.toMicros(value);
+        buckets.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1));
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getMeanMicros() {
+        long calls = count.get();
+        return calls == 0 ? 0 : totalNanos.get() / 1000.0 / calls;
+    }
+
+    public double getMaxMicros() {
+        return maxNanos.get() / 1000.0;
+    }
+
+    /**
+     * @param percentile  The percentile, from 0 to 1 (e.g. 0.99).
+     * @return  The upper bound (power of 2) of the bucket of the percentile,
+     *          in microseconds. 0 if none recorded.
+     */
+    public long getPercentileMicros(double percentile) {
+        long calls = 0;
+        long[] counts = new long[BUCKETS];
+        for (int ix = 0; ix < BUCKETS; ix += 1) {
+            counts[ix] = buckets.get(ix);
+            calls += counts[ix];
+        }
+        long rank = (long) Math.ceil(percentile * calls);
+        long seen = 0;
+        for (int ix = 0; ix < BUCKETS; ix += 1) {
+            seen += counts[ix];
+            if (seen >= rank && seen > 0) {
+                return 1L << ix;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "count=[" + getCount() + "], mean=[" + String.format("%.1f", getMeanMicros()) + "us], p99=["
+                + getPercentileMicros(0.99) + "us], max=[" + String.format("%.1f", getMaxMicros()) + "us]";
+    }
+
+}
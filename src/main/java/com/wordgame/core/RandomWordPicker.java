@@ -0,0 +1,122 @@
+package com.wordgame.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.wordgame.dictionary.LengthBuckets;
+import com.wordgame.dictionary.WordDictionary;
+
+/**
+ * Picks words randomly (uniformly) from the words of a given length.
+ *
+ * Uses `ThreadLocalRandom` by default. When given a seed, uses a
+ * `SplittableRandom` of the seed instead, split once per thread, so the
+ * sequence is reproducible for a single thread.
+ */
+public class RandomWordPicker {
+
+    private final SplittableRandom seeded;
+
+    private final ThreadLocal<SplittableRandom> randoms;
+
+    public RandomWordPicker() {
+        this.seeded = null;
+        this.randoms = null;
+    }
+
+    public RandomWordPicker(long seed) {
+        this.seeded = new SplittableRandom(seed);
+        this.randoms = ThreadLocal.withInitial(this::split);
+    }
+
+    private SplittableRandom split() {
+        synchronized (seeded) {
+            return seeded.split();
+        }
+    }
+
+    private int nextInt(int bound) {
+        if (randoms == null) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+        return randoms.get().nextInt(bound);
+    }
+
+    /**
+     * @param dictionary  The dictionary to pick from.
+     * @param length      The word length, or null for any length.
+     * @return  One word of `length`, or null if none.
+     */
+    public String pick(WordDictionary dictionary, Integer length) {
+        LengthBuckets buckets = dictionary.getLengthBuckets();
+        int count = buckets.count(length);
+        if (count == 0) {
+            return null;
+        }
+        return dictionary.getWord(buckets.id(length, nextInt(count)));
+    }
+
+    /**
+     * Picks `n` words of `length`.
+     *
+     * Without replacement, returns at most all the words of `length` (in
+     * random order).
+     *
+     * @param dictionary       The dictionary to pick from.
+     * @param length           The word length, or null for any length.
+     * @param n                The number of words to pick.
+     * @param withReplacement  true if same word may be picked more than once.
+     * @return  The words picked.
+     */
+    public List<String> pick(WordDictionary dictionary, Integer length, int n, boolean withReplacement) {
+        LengthBuckets buckets = dictionary.getLengthBuckets();
+        int count = buckets.count(length);
+        if (count == 0 || n <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> words = new ArrayList<>(Math.min(n, withReplacement ? n : count));
+        if (withReplacement) {
+            for (int ix = 0; ix < n; ix += 1) {
+                words.add(dictionary.getWord(buckets.id(length, nextInt(count))));
+            }
+        } else if (2L * n >= count) {
+            // partial Fisher-Yates shuffle of the whole bucket
+            int[] indexes = new int[count];
+            for (int ix = 0; ix < count; ix += 1) {
+                indexes[ix] = ix;
+            }
+            for (int ix = 0; ix < Math.min(n, count); ix += 1) {
+                int jx = ix + nextInt(count - ix);
+                int index = indexes[jx];
+                indexes[jx] = indexes[ix];
+                indexes[ix] = index;
+                words.add(dictionary.getWord(buckets.id(length, index)));
+            }
+        } else {
+            // Floyd's algorithm, only touches `n` of the bucket
+            Set<Integer> picked = new HashSet<>();
+            for (int jx = count - n; jx < count; jx += 1) {
+                int index = nextInt(jx + 1);
+                if (!picked.add(index)) {
+                    picked.add(jx);
+                    index = jx;
+                }
+                words.add(dictionary.getWord(buckets.id(length, index)));
+            }
+            shuffle(words);
+        }
+        return words;
+    }
+
+    private void shuffle(List<String> words) {
+        for (int ix = words.size() - 1; ix > 0; ix -= 1) {
+            Collections.swap(words, ix, nextInt(ix + 1));
+        }
+    }
+
+}
@@ -0,0 +1,268 @@
+package com.wordgame.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache, evicting by segmented LRU: a new entry is admitted into
+ * the probation segment, and moved to the protected segment once read
+ * again. The least recently used entry of the protected segment, once
+ * full, goes back to probation. Evicted are the least recently used
+ * entries of probation first.
+ *
+ * So the entries read once (e.g. a burst of one-off requests) do not evict
+ * the entries read repeatedly, as they would from a plain LRU.
+ *
+ * Thread safe. The keys are striped by hash over independent stripes,
+ * each of its own lock and its share of `maxSize`, so concurrent readers
+ * of other stripes do not wait on each other. The order of eviction is
+ * then of each stripe, approximately of the whole cache. The values are
+ * computed outside of the locks, so a slow computation does not block the
+ * other readers; the same value may then be computed more than once.
+ *
+ * @param <K>  The type of keys.
+ * @param <V>  The type of values.
+ */
+public final class SegmentedLruCache<K, V> {
+
+    private static final int MAX_STRIPES = 16;
+
+    /*
+     * The entries of a stripe at least, so the eviction order of a small
+     * cache stays (close to) exact.
+     */
+    private static final int MIN_STRIPE_SIZE = 64;
+
+    private final int maxSize;
+
+    private final Stripe<K, V>[] stripes;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize  The maximum number of entries, positive. 80% of them
+     *                 may be protected.
+     */
+    public SegmentedLruCache(int maxSize) {
+        this(maxSize, stripes(maxSize));
+    }
+
+    /**
+     * @param maxSize  The maximum number of entries, positive. 80% of them
+     *                 may be protected.
+     * @param stripes  The number of stripes, rounded down to a power of 2,
+     *                 at most `maxSize`.
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedLruCache(int maxSize, int stripes) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid maxSize=[" + maxSize + "], expect positive integer");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Invalid stripes=[" + stripes + "], expect positive integer");
+        }
+        this.maxSize = maxSize;
+        int count = Integer.highestOneBit(Math.min(stripes, maxSize));
+        this.stripes = new Stripe[count];
+        for (int ix = 0; ix < count; ix += 1) {
+            // the remainder spread over the first stripes
+            this.stripes[ix] = new Stripe<>(maxSize / count + (ix < maxSize % count ? 1 : 0));
+        }
+    }
+
+    private static int stripes(int maxSize) {
+        return Math.max(1, Math.min(MAX_STRIPES, maxSize / MIN_STRIPE_SIZE));
+    }
+
+    /**
+     * Returns the value of `key`, computing and caching it if not cached.
+     *
+     * @param key      The key.
+     * @param compute  Computes the value of the key, not null.
+     * @return  The value of `key`.
+     */
+    public V get(K key, Function<? super K, ? extends V> compute) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = compute.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * @param key  The key.
+     * @return  The value of `key`, or null if not cached.
+     */
+    public V getIfPresent(K key) {
+        V value = stripe(key).getIfPresent(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Caches the value of `key`, unless cached already.
+     *
+     * @param key    The key.
+     * @param value  The value, not null.
+     */
+    public void put(K key, V value) {
+        int evicted = stripe(key).put(key, value);
+        if (evicted > 0) {
+            evictions.add(evicted);
+        }
+    }
+
+    /**
+     * Removes the entries of the values matching `filter` (not counted as
+     * evicted).
+     *
+     * @param filter  Tests the values to remove.
+     */
+    public void removeIf(Predicate<? super V> filter) {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.removeIf(filter);
+        }
+    }
+
+    private Stripe<K, V> stripe(K key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Removes all the entries. The counters are kept.
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return  The number of stripes, each of its own lock.
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "size=[" + size() + "], maxSize=[" + maxSize + "], stripes=[" + stripes.length + "], hits=["
+                + getHits() + "], misses=[" + getMisses() + "], evictions=[" + getEvictions() + ']';
+    }
+
+    /*
+     * The segments of the keys of a stripe, guarded by the stripe.
+     */
+    private static final class Stripe<K, V> {
+
+        private final int maxSize;
+
+        private final int protectedMaxSize;
+
+        /*
+         * In access order: the least recently used first.
+         */
+        private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+        Stripe(int maxSize) {
+            this.maxSize = maxSize;
+            this.protectedMaxSize = (int) (maxSize * 0.8);
+        }
+
+        synchronized V getIfPresent(K key) {
+            V value = protectedSegment.get(key);
+            if (value == null) {
+                value = probation.remove(key);
+                if (value == null) {
+                    return null;
+                }
+                // read again, promoted
+                protectedSegment.put(key, value);
+                if (protectedSegment.size() > protectedMaxSize) {
+                    Iterator<Map.Entry<K, V>> eldest = protectedSegment.entrySet().iterator();
+                    Map.Entry<K, V> demoted = eldest.next();
+                    eldest.remove();
+                    probation.put(demoted.getKey(), demoted.getValue());
+                }
+            }
+            return value;
+        }
+
+        /*
+         * Returns the number of entries evicted.
+         */
+        synchronized int put(K key, V value) {
+            if (protectedSegment.containsKey(key) || probation.containsKey(key)) {
+                // computed concurrently, and cached already
+                return 0;
+            }
+            probation.put(key, value);
+            int evicted = 0;
+            while (probation.size() + protectedSegment.size() > maxSize) {
+                Map<K, V> segment = probation.isEmpty() ? protectedSegment : probation;
+                Iterator<V> eldest = segment.values().iterator();
+                eldest.next();
+                eldest.remove();
+                evicted += 1;
+            }
+            return evicted;
+        }
+
+        synchronized void removeIf(Predicate<? super V> filter) {
+            probation.values().removeIf(filter);
+            protectedSegment.values().removeIf(filter);
+        }
+
+        synchronized void clear() {
+            probation.clear();
+            protectedSegment.clear();
+        }
+
+        synchronized int size() {
+            return probation.size() + protectedSegment.size();
+        }
+
+    }
+
+}
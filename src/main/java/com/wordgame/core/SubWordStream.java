@@ -0,0 +1,73 @@
+package com.wordgame.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.wordgame.dictionary.WordDictionary;
+
+/**
+ * The sub words of a word, found in chunks: each chunk resumes the walk
+ * after the last sub word of the previous one, so the sub words are never
+ * all collected, and the walk can be run chunk by chunk (e.g. on the engine
+ * bulkhead) while the chunks are written elsewhere.
+ *
+ * Of the dictionary snapshot current when created, even if rebuilt since.
+ * Not thread-safe: one chunk at a time.
+ */
+public final class SubWordStream {
+
+    private final WordDictionary dictionary;
+
+    private final String word;
+
+    private final int minLength;
+
+    private int nextId;
+
+    private int total;
+
+    private boolean done;
+
+    SubWordStream(WordDictionary dictionary, String word, int minLength) {
+        this.dictionary = dictionary;
+        this.word = word;
+        this.minLength = minLength;
+        this.done = dictionary == null;
+    }
+
+    /**
+     * Finds the next sub words, in dictionary order.
+     *
+     * @param limit  The sub words to find, at most.
+     * @return  The next sub words, empty once all found.
+     */
+    public List<String> next(int limit) {
+        if (done || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> words = new ArrayList<>(Math.min(limit, 64));
+        done = dictionary.forEachSubWordId(word, minLength, nextId, id -> {
+            words.add(dictionary.getWord(id));
+            nextId = id + 1;
+            return words.size() < limit;
+        });
+        total += words.size();
+        return words;
+    }
+
+    /**
+     * @return  true once all the sub words found.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * @return  The number of sub words found so far.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+}
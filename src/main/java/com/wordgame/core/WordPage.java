@@ -0,0 +1,87 @@
+package com.wordgame.core;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * A page of words, out of a range of `total` words: e.g. the words matching
+ * a prefix. The next page, if any, is fetched with the `nextCursor`.
+ *
+ * The cursor is opaque to the clients: the offset of the next page, along
+ * with the checksum of the dictionary words, so a cursor is rejected once
+ * the words changed (rebuilt), instead of skipping or repeating words.
+ */
+public final class WordPage {
+
+    private final List<String> words;
+
+    private final int total;
+
+    private final String nextCursor;
+
+    WordPage(List<String> words, int total, String nextCursor) {
+        this.words = words;
+        this.total = total;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return  The words of the page, read-only.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * @return  The number of words of all the pages.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return  The cursor of the next page, or null if the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    static String encodeCursor(long checksum, int offset) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        buffer.putLong(checksum).putInt(offset);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @return  The offset of `cursor`.
+     * @throws IllegalArgumentException  If invalid `cursor`, or not of the
+     *         words of `checksum`.
+     */
+    static int decodeCursor(String cursor, long checksum) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor=[" + cursor + "]", e);
+        }
+        if (bytes.length != Long.BYTES + Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid cursor=[" + cursor + "]");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getLong() != checksum) {
+            throw new IllegalArgumentException("Expired cursor=[" + cursor + "], the dictionary has changed");
+        }
+        int offset = buffer.getInt();
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid cursor=[" + cursor + "]");
+        }
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "words.size=[" + words.size() + "], total=[" + total + "], nextCursor=[" + nextCursor + ']';
+    }
+
+}
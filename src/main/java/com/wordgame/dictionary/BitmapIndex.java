@@ -0,0 +1,270 @@
+package com.wordgame.dictionary;
+
+import java.nio.LongBuffer;
+
+/**
+ * Inverted index of the words by first letter, last letter and length.
+ *
+ * Each key has a bitmap over the word ids (bit `i` set when word `i`
+ * matches), along with the range of 64-bit blocks holding its first and
+ * last set bit. A query intersects only the bitmaps of the given criteria,
+ * and only over the blocks common to all of them, so the words beginning
+ * with one letter (a contiguous range of the sorted words) cost no more
+ * than their own range.
+ */
+public final class BitmapIndex {
+
+    /**
+     * Criterion not given, any word matches.
+     */
+    public static final int ANY = -1;
+
+    /**
+     * Criterion given, but can not match any word.
+     */
+    public static final int NONE = -2;
+
+    private static final int LETTERS = 26;
+
+    private final int size;
+
+    private final Bitmap[] firstLetters;
+
+    private final Bitmap[] lastLetters;
+
+    private final Bitmap[] lengths;
+
+    private final Bitmap all;
+
+    BitmapIndex(PackedWords words) {
+        this.size = words.size();
+        int blocks = (size + 63) >>> 6;
+        int maxLength = 0;
+        for (int id = 0; id < size; id += 1) {
+            maxLength = Math.max(maxLength, words.length(id));
+        }
+        long[][] first = new long[LETTERS][blocks];
+        long[][] last = new long[LETTERS][blocks];
+        long[][] length = new long[maxLength + 1][blocks];
+        long[] any = new long[blocks];
+        for (int id = 0; id < size; id += 1) {
+            long bit = 1L << id;
+            int block = id >>> 6;
+            any[block] |= bit;
+            length[words.length(id)][block] |= bit;
+            int c1 = words.firstChar(id) - 'a';
+            if (c1 >= 0 && c1 < LETTERS) {
+                first[c1][block] |= bit;
+            }
+            int c2 = words.lastChar(id) - 'a';
+            if (c2 >= 0 && c2 < LETTERS) {
+                last[c2][block] |= bit;
+            }
+        }
+        this.firstLetters = Bitmap.of(first);
+        this.lastLetters = Bitmap.of(last);
+        this.lengths = Bitmap.of(length);
+        this.all = new Bitmap(LongBuffer.wrap(any));
+    }
+
+    private BitmapIndex(int size, Bitmap[] firstLetters, Bitmap[] lastLetters, Bitmap[] lengths, Bitmap all) {
+        this.size = size;
+        this.firstLetters = firstLetters;
+        this.lastLetters = lastLetters;
+        this.lengths = lengths;
+        this.all = all;
+    }
+
+    void write(DictionaryFile.Writer out) {
+        out.putInt(size);
+        for (Bitmap[] bitmaps : new Bitmap[][] { firstLetters, lastLetters, lengths, { all } }) {
+            out.putInt(bitmaps.length);
+            for (Bitmap bitmap : bitmaps) {
+                out.longs(bitmap.bits);
+            }
+        }
+    }
+
+    static BitmapIndex read(DictionaryFile.Reader in) {
+        int size = in.getInt();
+        Bitmap[][] groups = new Bitmap[4][];
+        for (int group = 0; group < groups.length; group += 1) {
+            groups[group] = new Bitmap[in.getInt()];
+            for (int ix = 0; ix < groups[group].length; ix += 1) {
+                groups[group][ix] = new Bitmap(in.longs());
+            }
+        }
+        return new BitmapIndex(size, groups[0], groups[1], groups[2], groups[3][0]);
+    }
+
+    /**
+     * @param ch  The letter, case insensitive, or null.
+     * @return  The letter criterion: 0 to 25 for 'a' to 'z', {@link #ANY}
+     *          for null, else {@link #NONE}.
+     */
+    public static int letter(Character ch) {
+        if (ch == null) {
+            return ANY;
+        }
+        char lower = Character.toLowerCase(ch);
+        return lower >= 'a' && lower <= 'z' ? lower - 'a' : NONE;
+    }
+
+    /**
+     * @param length  The word length, or null.
+     * @return  The length criterion: the length if positive, {@link #ANY}
+     *          for null, else {@link #NONE}.
+     */
+    public static int length(Integer length) {
+        if (length == null) {
+            return ANY;
+        }
+        return length > 0 ? length : NONE;
+    }
+
+    /**
+     * Finds the words matching all the given criteria.
+     *
+     * @param first   The first letter criterion, see {@link #letter(Character)}.
+     * @param last    The last letter criterion, see {@link #letter(Character)}.
+     * @param length  The length criterion, see {@link #length(Integer)}.
+     * @return  The ids of the matching words, ascending.
+     */
+    public int[] search(int first, int last, int length) {
+        Bitmap[] bitmaps = select(first, last, length);
+        if (bitmaps == null) {
+            return new int[0];
+        }
+        int[] ids = new int[count(bitmaps)];
+        int pos = 0;
+        int from = from(bitmaps);
+        int to = to(bitmaps);
+        for (int block = from; block < to; block += 1) {
+            long bits = and(bitmaps, block);
+            while (bits != 0) {
+                ids[pos++] = (block << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Counts the words matching all the given criteria, without listing them.
+     *
+     * @see #search(int, int, int)
+     */
+    public int count(int first, int last, int length) {
+        Bitmap[] bitmaps = select(first, last, length);
+        return bitmaps == null ? 0 : count(bitmaps);
+    }
+
+    public int getMaxLength() {
+        return lengths.length - 1;
+    }
+
+    private Bitmap[] select(int first, int last, int length) {
+        if (first == NONE || last == NONE || length == NONE || length > getMaxLength()) {
+            return null;
+        }
+        int num = (first == ANY ? 0 : 1) + (last == ANY ? 0 : 1) + (length == ANY ? 0 : 1);
+        if (num == 0) {
+            return new Bitmap[] { all };
+        }
+        Bitmap[] bitmaps = new Bitmap[num];
+        num = 0;
+        if (first != ANY) {
+            bitmaps[num++] = firstLetters[first];
+        }
+        if (last != ANY) {
+            bitmaps[num++] = lastLetters[last];
+        }
+        if (length != ANY) {
+            bitmaps[num++] = lengths[length];
+        }
+        return bitmaps;
+    }
+
+    private static int count(Bitmap[] bitmaps) {
+        int count = 0;
+        int to = to(bitmaps);
+        for (int block = from(bitmaps); block < to; block += 1) {
+            count += Long.bitCount(and(bitmaps, block));
+        }
+        return count;
+    }
+
+    private static int from(Bitmap[] bitmaps) {
+        int from = 0;
+        for (Bitmap bitmap : bitmaps) {
+            from = Math.max(from, bitmap.from);
+        }
+        return from;
+    }
+
+    private static int to(Bitmap[] bitmaps) {
+        int to = Integer.MAX_VALUE;
+        for (Bitmap bitmap : bitmaps) {
+            to = Math.min(to, bitmap.to);
+        }
+        return to;
+    }
+
+    private static long and(Bitmap[] bitmaps, int block) {
+        long bits = bitmaps[0].bits.get(block);
+        for (int ix = 1; ix < bitmaps.length; ix += 1) {
+            bits &= bitmaps[ix].bits.get(block);
+        }
+        return bits;
+    }
+
+    public long getSizeInBytes() {
+        long size = all.getSizeInBytes();
+        for (Bitmap[] bitmaps : new Bitmap[][] { firstLetters, lastLetters, lengths }) {
+            for (Bitmap bitmap : bitmaps) {
+                size += bitmap.getSizeInBytes();
+            }
+        }
+        return size;
+    }
+
+    /*
+     * The bits of one key, with the range [from, to) of non empty blocks.
+     */
+    private static final class Bitmap {
+
+        private final LongBuffer bits;
+
+        private final int from;
+
+        private final int to;
+
+        Bitmap(LongBuffer bits) {
+            int from = 0;
+            while (from < bits.limit() && bits.get(from) == 0) {
+                from += 1;
+            }
+            int to = bits.limit();
+            while (to > from && bits.get(to - 1) == 0) {
+                to -= 1;
+            }
+            this.bits = bits;
+            this.from = from;
+            this.to = to;
+        }
+
+        static Bitmap[] of(long[][] keys) {
+            Bitmap[] bitmaps = new Bitmap[keys.length];
+            for (int ix = 0; ix < keys.length; ix += 1) {
+                bitmaps[ix] = new Bitmap(LongBuffer.wrap(keys[ix]));
+            }
+            return bitmaps;
+        }
+
+        long getSizeInBytes() {
+            return 16L + Buffers.heapSize(bits);
+        }
+
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.wordgame.dictionary;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Blocked Bloom filter of the words, case insensitive, answering most of
+ * the lookups of words not in the dictionary (typos, wrong guesses) without
+ * reading the {@link MembershipIndex} nor the packed words.
+ *
+ * Each word sets its `k` bits in a single block of 512 bits (8 longs, about
+ * a cache line), picked by its hash: a lookup reads one block only. The
+ * filter is a fraction of the size of the membership index (about 10 bits
+ * per word at 1%), so it stays in the CPU cache. The blocks make the false
+ * positive rate a little higher than of a plain Bloom filter of the same
+ * size, so the bits per word are sized with some margin.
+ *
+ * The counters are of the lookups answered, as recorded by the callers of
+ * {@link #mightContain(CharSequence)} (e.g. {@link WordDictionary#contains(CharSequence)}).
+ * Single lookups are sampled, so the hot path mostly skips the shared
+ * counters: one in {@link #getStatsSampling()} is counted, for as many
+ * lookups. The counters are then estimates, and exact if the sampling is 1.
+ */
+public final class BloomFilter {
+
+    private static final int BLOCK_BITS = 512;
+
+    private static final int BLOCK_LONGS = BLOCK_BITS / 64;
+
+    private static final int MAX_HASHES = 16;
+
+    /*
+     * Extra bits per word, for the blocks being unevenly filled.
+     */
+    private static final double BLOCK_MARGIN = 1.2;
+
+    private final long[] bits;
+
+    private final int blocks;
+
+    private final int hashes;
+
+    private final double falsePositiveRate;
+
+    private final int statsSampling;
+
+    private final LongAdder queries = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    private BloomFilter(int blocks, int hashes, double falsePositiveRate, int statsSampling) {
+        this.bits = new long[blocks * BLOCK_LONGS];
+        this.blocks = blocks;
+        this.hashes = hashes;
+        this.falsePositiveRate = falsePositiveRate;
+        this.statsSampling = statsSampling;
+    }
+
+    /**
+     * Builds the filter of `words`, counting every lookup.
+     *
+     * @see #of(PackedWords, double, int)
+     */
+    public static BloomFilter of(PackedWords words, double falsePositiveRate) {
+        return of(words, falsePositiveRate, 1);
+    }
+
+    /**
+     * Builds the filter of `words`.
+     *
+     * @param words              The words.
+     * @param falsePositiveRate  The target rate of words not in `words`
+     *                           found by the filter, in (0, 1).
+     * @param statsSampling      Counts one in `statsSampling` single lookups,
+     *                           rounded up to a power of 2. 0 to count none.
+     * @return  The filter.
+     * @throws IllegalArgumentException  If invalid `falsePositiveRate`, or
+     *                                   negative `statsSampling`.
+     */
+    public static BloomFilter of(PackedWords words, double falsePositiveRate, int statsSampling) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Invalid false positive rate: " + falsePositiveRate);
+        }
+        if (statsSampling < 0 || statsSampling > 1 << 30) {
+            throw new IllegalArgumentException("Invalid stats sampling: " + statsSampling);
+        }
+        double bitsPerWord = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long totalBits = (long) Math.ceil(Math.max(1, words.size()) * bitsPerWord * BLOCK_MARGIN);
+        int blocks = (int) Math.min(Integer.MAX_VALUE / BLOCK_LONGS, (totalBits + BLOCK_BITS - 1) / BLOCK_BITS);
+        int hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round(bitsPerWord * Math.log(2))));
+        int sampling = statsSampling <= 1 ? statsSampling : Integer.highestOneBit(statsSampling - 1) << 1;
+        BloomFilter filter = new BloomFilter(blocks, hashes, falsePositiveRate, sampling);
+        for (int id = 0; id < words.size(); id += 1) {
+            filter.add(hash(words.subSequence(id)));
+        }
+        return filter;
+    }
+
+    private void add(long h) {
+        int base = block(h);
+        long g = h << 32;
+        long step = step(h);
+        for (int ix = 0; ix < hashes; ix += 1) {
+            g += step;
+            int bit = (int) (g >>> 55);
+            bits[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks if `word` might be in the dictionary, case insensitive.
+     * Does not allocate, nor count the lookup.
+     *
+     * @param word  The word.
+     * @return  false if `word` is not in the dictionary, true if it might be.
+     */
+    public boolean mightContain(CharSequence word) {
+        if (word == null || word.length() == 0) {
+            return false;
+        }
+        long h = hash(word);
+        int base = block(h);
+        long g = h << 32;
+        long step = step(h);
+        for (int ix = 0; ix < hashes; ix += 1) {
+            g += step;
+            int bit = (int) (g >>> 55);
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * The first long of the block of the hash (multiply-shift, no modulo).
+     */
+    private int block(long h) {
+        return (int) (((h >>> 32) * blocks) >>> 32) * BLOCK_LONGS;
+    }
+
+    /*
+     * The step of the double hashing of the bits in the block, odd.
+     */
+    private static long step(long h) {
+        return (h * 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    /*
+     * The case folded hash of `text`, of 64 bits (SplitMix64 finalizer),
+     * unrelated to the hash of the membership index.
+     */
+    static long hash(CharSequence text) {
+        long h = text.length();
+        for (int ix = 0; ix < text.length(); ix += 1) {
+            h = 31 * h + PackedWords.foldCase(text.charAt(ix));
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * Counts a single lookup answered with this filter, if sampled: one in
+     * {@link #getStatsSampling()} at random, counted for as many lookups.
+     * Found words only count as queries.
+     *
+     * @param rejected       true if not found by the filter.
+     * @param falsePositive  true if found by the filter, but not in the
+     *                       dictionary.
+     */
+    public void recordLookup(boolean rejected, boolean falsePositive) {
+        if (statsSampling == 0 || (statsSampling > 1
+                && (ThreadLocalRandom.current().nextInt() & (statsSampling - 1)) != 0)) {
+            return;
+        }
+        record(statsSampling, rejected ? statsSampling : 0, falsePositive ? statsSampling : 0);
+    }
+
+    /**
+     * Adds the counts of lookups answered with this filter, e.g. of a batch
+     * (not sampled). Nothing counted if the sampling is 0.
+     *
+     * @param queries         The words looked up.
+     * @param rejected        The words not found by the filter.
+     * @param falsePositives  The words found by the filter, but not in the
+     *                        dictionary.
+     */
+    public void record(long queries, long rejected, long falsePositives) {
+        if (statsSampling == 0) {
+            return;
+        }
+        this.queries.add(queries);
+        if (rejected != 0) {
+            this.rejected.add(rejected);
+        }
+        if (falsePositives != 0) {
+            this.falsePositives.add(falsePositives);
+        }
+    }
+
+    /**
+     * @return  The target false positive rate.
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * @return  The number of bits set per word.
+     */
+    public int getHashCount() {
+        return hashes;
+    }
+
+    /**
+     * @return  One in how many single lookups is counted, 0 if none.
+     */
+    public int getStatsSampling() {
+        return statsSampling;
+    }
+
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    public long getSizeInBytes() {
+        return 8L * bits.length;
+    }
+
+    @Override
+    public String toString() {
+        return "falsePositiveRate=[" + falsePositiveRate + "], hashes=[" + hashes + "], statsSampling=[" + statsSampling + "], size=[" + getSizeInBytes()
+                + "], queries=[" + getQueries() + "], rejected=[" + getRejected() + "], falsePositives=["
+                + getFalsePositives() + ']';
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.wordgame.dictionary;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Sizes of the buffers backing the indexes: on the heap when wrapping
+ * arrays, or not when mapped from the compiled dictionary file.
+ */
+final class Buffers {
+
+    private Buffers() {
+    }
+
+    /**
+     * @return  The heap used by `buffer`, or 0 if mapped/direct.
+     */
+    static long heapSize(Buffer buffer) {
+        if (buffer.isDirect()) {
+            return 0L;
+        }
+        return (long) buffer.capacity() * elementSize(buffer);
+    }
+
+    private static int elementSize(Buffer buffer) {
+        if (buffer instanceof LongBuffer) {
+            return 8;
+        }
+        if (buffer instanceof IntBuffer) {
+            return 4;
+        }
+        return buffer instanceof ByteBuffer ? 1 : 2;
+    }
+
+}
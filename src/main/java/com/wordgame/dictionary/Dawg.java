@@ -0,0 +1,752 @@
+package com.wordgame.dictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+
+/**
+ * Minimal acyclic automaton (DAWG) of the words: the words share their
+ * prefixes, as in a trie, and also their suffixes, the equivalent nodes
+ * being merged when built (incrementally, from the sorted words).
+ *
+ * Each node also counts the words reachable from it, so the rank of a word
+ * in the sorted words, which is its word id, is computed while walking it.
+ * Hence the words beginning with a prefix are a range of word ids.
+ *
+ * Nodes are flattened into arrays, with the edges of node `n` at
+ * `edgeStart[n]` to `edgeStart[n + 1] - 1` (ascending letter).
+ */
+public final class Dawg {
+
+    private static final int ROOT = 0;
+
+    /*
+     * Levels of the parallel walk forking a task per edge: up to 26 * 26
+     * tasks, enough to balance the sub trees of uneven sizes.
+     */
+    private static final int SPLIT_DEPTH = 2;
+
+    /**
+     * The maximum length of a wildcard pattern, the positions of the pattern
+     * walked as the bits of an int.
+     */
+    public static final int MAX_PATTERN_LENGTH = 31;
+
+    private final IntBuffer edgeStart;
+
+    private final ByteBuffer labels;
+
+    private final IntBuffer targets;
+
+    private final IntBuffer counts;
+
+    private final LongBuffer finals;
+
+    Dawg(PackedWords words) {
+        Builder builder = new Builder();
+        for (int id = 0; id < words.size(); id += 1) {
+            builder.add(words, id);
+        }
+        State root = builder.finish();
+
+        // number the nodes breadth first, the root first
+        Map<State, Integer> ids = new IdentityHashMap<>();
+        State[] nodes = new State[builder.register.size() + 1];
+        ids.put(root, ROOT);
+        nodes[ROOT] = root;
+        int size = 1;
+        int edges = 0;
+        for (int node = 0; node < size; node += 1) {
+            State state = nodes[node];
+            edges += state.size;
+            for (int ix = 0; ix < state.size; ix += 1) {
+                State target = state.targets[ix];
+                if (!ids.containsKey(target)) {
+                    ids.put(target, size);
+                    nodes[size++] = target;
+                }
+            }
+        }
+
+        int[] edgeStart = new int[size + 1];
+        byte[] labels = new byte[edges];
+        int[] targets = new int[edges];
+        long[] finals = new long[(size + 63) >>> 6];
+        int edge = 0;
+        for (int node = 0; node < size; node += 1) {
+            State state = nodes[node];
+            edgeStart[node] = edge;
+            if (state.terminal) {
+                finals[node >>> 6] |= 1L << node;
+            }
+            for (int ix = 0; ix < state.size; ix += 1) {
+                labels[edge] = state.labels[ix];
+                targets[edge] = ids.get(state.targets[ix]);
+                edge += 1;
+            }
+        }
+        edgeStart[size] = edge;
+        this.edgeStart = IntBuffer.wrap(edgeStart);
+        this.labels = ByteBuffer.wrap(labels);
+        this.targets = IntBuffer.wrap(targets);
+        this.finals = LongBuffer.wrap(finals);
+        // count the words of the targets before their sources
+        int[] counts = new int[size];
+        int[] order = topologicalOrder(edgeStart, targets);
+        for (int ix = size - 1; ix >= 0; ix -= 1) {
+            int node = order[ix];
+            int count = isFinal(node) ? 1 : 0;
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e += 1) {
+                count += counts[targets[e]];
+            }
+            counts[node] = count;
+        }
+        this.counts = IntBuffer.wrap(counts);
+    }
+
+    private Dawg(IntBuffer edgeStart, ByteBuffer labels, IntBuffer targets, IntBuffer counts, LongBuffer finals) {
+        this.edgeStart = edgeStart;
+        this.labels = labels;
+        this.targets = targets;
+        this.counts = counts;
+        this.finals = finals;
+    }
+
+    void write(DictionaryFile.Writer out) {
+        out.ints(edgeStart);
+        out.bytes(labels);
+        out.ints(targets);
+        out.ints(counts);
+        out.longs(finals);
+    }
+
+    static Dawg read(DictionaryFile.Reader in) {
+        return new Dawg(in.ints(), in.bytes(), in.ints(), in.ints(), in.longs());
+    }
+
+    private static int[] topologicalOrder(int[] edgeStart, int[] targets) {
+        int size = edgeStart.length - 1;
+        int[] incoming = new int[size];
+        for (int target : targets) {
+            incoming[target] += 1;
+        }
+        int[] order = new int[size];
+        int head = 0;
+        int tail = 0;
+        order[tail++] = ROOT;
+        while (head < tail) {
+            int node = order[head++];
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e += 1) {
+                if (--incoming[targets[e]] == 0) {
+                    order[tail++] = targets[e];
+                }
+            }
+        }
+        return order;
+    }
+
+    private boolean isFinal(int node) {
+        return (finals.get(node >>> 6) & (1L << node)) != 0;
+    }
+
+    /*
+     * @return  The edge of `node` with letter `ch`, or -1 if none.
+     */
+    private int edge(int node, char ch) {
+        if (ch > 0xFF) {
+            return -1;
+        }
+        byte label = (byte) ch;
+        for (int e = edgeStart.get(node); e < edgeStart.get(node + 1); e += 1) {
+            if (labels.get(e) == label) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param word  The word, case insensitive.
+     * @return  The word id of `word`, or -1 if not found.
+     */
+    public int indexOf(CharSequence word) {
+        if (word == null || word.length() == 0) {
+            return -1;
+        }
+        int node = ROOT;
+        int rank = 0;
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            int e = edge(node, PackedWords.foldCase(word.charAt(ix)));
+            if (e < 0) {
+                return -1;
+            }
+            rank += rankOf(node, e);
+            node = targets.get(e);
+        }
+        return isFinal(node) ? rank : -1;
+    }
+
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    /*
+     * The number of words before the words through edge `e` of `node`: the
+     * word ending at `node`, and the words through the edges of lesser letter.
+     */
+    private int rankOf(int node, int e) {
+        int rank = isFinal(node) ? 1 : 0;
+        for (int ix = edgeStart.get(node); ix < e; ix += 1) {
+            rank += counts.get(targets.get(ix));
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the range of the words beginning with `prefix`.
+     *
+     * @param prefix  The prefix, case insensitive.
+     * @return  The word id of the first word beginning with `prefix` in the
+     *          high 32 bits, the number of such words in the low 32 bits.
+     *          Or 0 if none.
+     */
+    public long prefixRange(CharSequence prefix) {
+        int node = ROOT;
+        int rank = 0;
+        for (int ix = 0; ix < prefix.length(); ix += 1) {
+            int e = edge(node, PackedWords.foldCase(prefix.charAt(ix)));
+            if (e < 0) {
+                return 0L;
+            }
+            rank += rankOf(node, e);
+            node = targets.get(e);
+        }
+        return ((long) rank << 32) | counts.get(node);
+    }
+
+    /**
+     * @param range  The range of words, from {@link #prefixRange(CharSequence)}.
+     * @return  The word id of the first word in range.
+     */
+    public static int rangeStart(long range) {
+        return (int) (range >>> 32);
+    }
+
+    /**
+     * @param range  The range of words, from {@link #prefixRange(CharSequence)}.
+     * @return  The number of words in range.
+     */
+    public static int rangeCount(long range) {
+        return (int) range;
+    }
+
+    /**
+     * Finds the words made of the `letters`, each letter used at most as
+     * many times as it occurs in `letters`. Matching is case insensitive.
+     *
+     * Only the prefixes which can be made of the `letters` are walked.
+     *
+     * @param letters    The letters available.
+     * @param minLength  The minimum length (inclusive) of the words.
+     * @return  The ids of the matching words, ascending.
+     */
+    public int[] subWords(CharSequence letters, int minLength) {
+        IdList matches = new IdList();
+        walk(ROOT, 0, 0, available(letters), Math.max(minLength, 0), matches);
+        return matches.toArray();
+    }
+
+    /**
+     * Finds the words made of the `letters`, as {@link #subWords(CharSequence, int)},
+     * walking in parallel: the sub trees of the first letters are walked
+     * by separate tasks of the `pool`, and their ids joined in letter order.
+     * Same result as walked sequentially.
+     *
+     * @param letters    The letters available.
+     * @param minLength  The minimum length (inclusive) of the words.
+     * @param pool       The pool to run the tasks.
+     * @return  The ids of the matching words, ascending.
+     */
+    public int[] subWords(CharSequence letters, int minLength, ForkJoinPool pool) {
+        return pool.invoke(new SubWordsTask(ROOT, 0, 0, available(letters), Math.max(minLength, 0), SPLIT_DEPTH));
+    }
+
+    /**
+     * Finds the words made of the `letters`, as {@link #subWords(CharSequence, int)},
+     * handing each id to `consumer` as soon as found, without collecting
+     * them: the memory used is of the walk only, whatever the number of
+     * words.
+     *
+     * The walk starts at the id `fromId`, e.g. the id after the last one
+     * handed before stopping: the sub trees of the lower ids are skipped by
+     * their word counts, not walked again.
+     *
+     * @param letters    The letters available.
+     * @param minLength  The minimum length (inclusive) of the words.
+     * @param fromId     The lowest id (inclusive) to hand, 0 for all.
+     * @param consumer   The consumer of the ids, ascending. Returns false
+     *                   to stop the walk.
+     * @return  false if stopped by `consumer`, true once all found.
+     */
+    public boolean subWords(CharSequence letters, int minLength, int fromId, IntPredicate consumer) {
+        return walk(ROOT, 0, 0, available(letters), Math.max(minLength, 0), fromId, consumer);
+    }
+
+    private static int[] available(CharSequence letters) {
+        int[] available = new int[256];
+        for (int ix = 0; ix < letters.length(); ix += 1) {
+            char ch = PackedWords.foldCase(letters.charAt(ix));
+            if (ch <= 0xFF) {
+                available[ch] += 1;
+            }
+        }
+        return available;
+    }
+
+    private void walk(int node, int depth, int rank, int[] available, int minLength, IdList matches) {
+        if (isFinal(node)) {
+            if (depth >= minLength) {
+                matches.add(rank);
+            }
+            rank += 1;
+        }
+        for (int e = edgeStart.get(node); e < edgeStart.get(node + 1); e += 1) {
+            int letter = labels.get(e) & 0xFF;
+            if (available[letter] > 0) {
+                available[letter] -= 1;
+                walk(targets.get(e), depth + 1, rank, available, minLength, matches);
+                available[letter] += 1;
+            }
+            rank += counts.get(targets.get(e));
+        }
+    }
+
+    private boolean walk(int node, int depth, int rank, int[] available, int minLength, int fromId,
+            IntPredicate consumer) {
+        if (isFinal(node)) {
+            if (depth >= minLength && rank >= fromId && !consumer.test(rank)) {
+                return false;
+            }
+            rank += 1;
+        }
+        for (int e = edgeStart.get(node); e < edgeStart.get(node + 1); e += 1) {
+            int letter = labels.get(e) & 0xFF;
+            int count = counts.get(targets.get(e));
+            if (available[letter] > 0 && rank + count > fromId) {
+                available[letter] -= 1;
+                boolean more = walk(targets.get(e), depth + 1, rank, available, minLength, fromId, consumer);
+                available[letter] += 1;
+                if (!more) {
+                    return false;
+                }
+            }
+            rank += count;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the words matching the wildcard `pattern`: '?' matches any one
+     * letter, '*' any letters (none included), any other letter itself.
+     * Matching is case insensitive.
+     *
+     * The automaton is walked along with the set of pattern positions
+     * reached (as of an NFA), so only the prefixes which can still match
+     * are walked, and each word at most once. A node reached with positions
+     * which matched nothing below it is not walked again with the same
+     * positions (the words below a node are the same whatever the path).
+     *
+     * @param pattern  The pattern, of at most {@link #MAX_PATTERN_LENGTH}
+     *                 letters and wildcards, consecutive '*' counting once.
+     * @return  The ids of the matching words, ascending.
+     * @throws IllegalArgumentException  If `pattern` is too long.
+     */
+    public int[] match(CharSequence pattern) {
+        Pattern compiled = new Pattern(pattern);
+        IdList matches = new IdList();
+        walk(ROOT, 0, compiled.closure(1L), compiled, new HashSet<>(), matches);
+        return matches.toArray();
+    }
+
+    private boolean walk(int node, int rank, long positions, Pattern pattern, Set<Long> dead, IdList matches) {
+        boolean found = false;
+        if (isFinal(node)) {
+            if ((positions & pattern.accept) != 0) {
+                matches.add(rank);
+                found = true;
+            }
+            rank += 1;
+        }
+        for (int e = edgeStart.get(node); e < edgeStart.get(node + 1); e += 1) {
+            int target = targets.get(e);
+            long next = pattern.step(positions, labels.get(e) & 0xFF);
+            if (next != 0 && !dead.contains(((long) target << 32) | next)
+                    && walk(target, rank, next, pattern, dead, matches)) {
+                found = true;
+            }
+            rank += counts.get(target);
+        }
+        if (!found) {
+            dead.add(((long) node << 32) | positions);
+        }
+        return found;
+    }
+
+    /**
+     * Finds the words within `maxDistance` edits (insertions, deletions or
+     * substitutions of a letter) of `word`, case insensitive.
+     *
+     * The automaton is walked along with the row of edit distances of the
+     * prefix walked to each prefix of `word` (as a Levenshtein automaton),
+     * and not below once all the distances of the row exceed `maxDistance`:
+     * only the prefixes close to `word` are walked.
+     *
+     * @param word         The word.
+     * @param maxDistance  The maximum edit distance, inclusive.
+     * @return  The ids of the matching words, the closest first: by distance,
+     *          then ascending.
+     */
+    public int[] similar(CharSequence word, int maxDistance) {
+        int length = word.length();
+        char[] letters = new char[length];
+        for (int ix = 0; ix < length; ix += 1) {
+            letters[ix] = PackedWords.foldCase(word.charAt(ix));
+        }
+        int[][] rows = new int[length + maxDistance + 1][length + 1];
+        for (int ix = 0; ix <= length; ix += 1) {
+            rows[0][ix] = ix;
+        }
+        IdList[] matches = new IdList[maxDistance + 1];
+        for (int distance = 0; distance <= maxDistance; distance += 1) {
+            matches[distance] = new IdList();
+        }
+        walk(ROOT, 0, 0, letters, rows, maxDistance, matches);
+        IdList ids = matches[0];
+        for (int distance = 1; distance <= maxDistance; distance += 1) {
+            ids.addAll(matches[distance].toArray());
+        }
+        return ids.toArray();
+    }
+
+    private void walk(int node, int depth, int rank, char[] letters, int[][] rows, int maxDistance, IdList[] matches) {
+        int[] row = rows[depth];
+        if (isFinal(node)) {
+            if (row[letters.length] <= maxDistance) {
+                matches[row[letters.length]].add(rank);
+            }
+            rank += 1;
+        }
+        if (depth + 1 < rows.length) {
+            int[] next = rows[depth + 1];
+            for (int e = edgeStart.get(node); e < edgeStart.get(node + 1); e += 1) {
+                char letter = (char) (labels.get(e) & 0xFF);
+                next[0] = depth + 1;
+                int min = next[0];
+                for (int ix = 1; ix <= letters.length; ix += 1) {
+                    int cost = letters[ix - 1] == letter ? 0 : 1;
+                    next[ix] = Math.min(Math.min(next[ix - 1] + 1, row[ix] + 1), row[ix - 1] + cost);
+                    min = Math.min(min, next[ix]);
+                }
+                if (min <= maxDistance) {
+                    walk(targets.get(e), depth + 1, rank, letters, rows, maxDistance, matches);
+                }
+                rank += counts.get(targets.get(e));
+            }
+        }
+    }
+
+    public int getNodeCount() {
+        return counts.limit();
+    }
+
+    public int getEdgeCount() {
+        return labels.limit();
+    }
+
+    public long getSizeInBytes() {
+        return Buffers.heapSize(edgeStart) + Buffers.heapSize(labels) + Buffers.heapSize(targets)
+                + Buffers.heapSize(counts) + Buffers.heapSize(finals);
+    }
+
+    @Override
+    public String toString() {
+        return "nodes=[" + getNodeCount() + "], edges=[" + getEdgeCount() + "], size=[" + getSizeInBytes() + ']';
+    }
+
+    /*
+     * Walks the sub tree of `node`, forking a task per edge until
+     * `splitDepth` levels below, then walking sequentially.
+     */
+    private final class SubWordsTask extends RecursiveTask<int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int node;
+
+        private final int depth;
+
+        private final int rank;
+
+        private final int[] available;
+
+        private final int minLength;
+
+        private final int splitDepth;
+
+        SubWordsTask(int node, int depth, int rank, int[] available, int minLength, int splitDepth) {
+            this.node = node;
+            this.depth = depth;
+            this.rank = rank;
+            this.available = available;
+            this.minLength = minLength;
+            this.splitDepth = splitDepth;
+        }
+
+        @Override
+        protected int[] compute() {
+            IdList matches = new IdList();
+            if (splitDepth == 0) {
+                walk(node, depth, rank, available, minLength, matches);
+                return matches.toArray();
+            }
+            int next = rank;
+            if (isFinal(node)) {
+                if (depth >= minLength) {
+                    matches.add(next);
+                }
+                next += 1;
+            }
+            List<SubWordsTask> tasks = new ArrayList<>();
+            for (int e = edgeStart.get(node); e < edgeStart.get(node + 1); e += 1) {
+                int letter = labels.get(e) & 0xFF;
+                if (available[letter] > 0) {
+                    int[] remaining = available.clone();
+                    remaining[letter] -= 1;
+                    tasks.add(new SubWordsTask(targets.get(e), depth + 1, next, remaining, minLength, splitDepth - 1));
+                }
+                next += counts.get(targets.get(e));
+            }
+            for (int ix = tasks.size() - 1; ix > 0; ix -= 1) {
+                tasks.get(ix).fork();
+            }
+            int[][] results = new int[tasks.size()][];
+            for (int ix = 0; ix < tasks.size(); ix += 1) {
+                results[ix] = ix == 0 ? tasks.get(ix).compute() : tasks.get(ix).join();
+            }
+            for (int[] ids : results) {
+                matches.addAll(ids);
+            }
+            return matches.toArray();
+        }
+
+    }
+
+    /*
+     * Wildcard pattern, as bit masks of its positions: position `i` reached
+     * once the first `i` characters matched.
+     */
+    private static final class Pattern {
+
+        private final long[] letterMasks = new long[256];
+
+        private long starMask;
+
+        private final long accept;
+
+        Pattern(CharSequence pattern) {
+            int length = 0;
+            for (int ix = 0; ix < pattern.length(); ix += 1) {
+                char ch = PackedWords.foldCase(pattern.charAt(ix));
+                if (ch == '*' && length > 0 && (starMask & (1L << (length - 1))) != 0) {
+                    continue;
+                }
+                if (length == MAX_PATTERN_LENGTH) {
+                    throw new IllegalArgumentException("Pattern longer than " + MAX_PATTERN_LENGTH + ": " + pattern);
+                }
+                if (ch == '*') {
+                    starMask |= 1L << length;
+                } else if (ch == '?') {
+                    for (int letter = 0; letter < letterMasks.length; letter += 1) {
+                        letterMasks[letter] |= 1L << length;
+                    }
+                } else if (ch <= 0xFF) {
+                    letterMasks[ch] |= 1L << length;
+                }
+                length += 1;
+            }
+            this.accept = 1L << length;
+        }
+
+        /*
+         * The positions reached from `positions` skipping a '*'. No two
+         * consecutive '*', so once.
+         */
+        long closure(long positions) {
+            return positions | ((positions & starMask) << 1);
+        }
+
+        /*
+         * The positions reached from `positions` by the `letter`: the next
+         * position if matching the letter, the same if a '*'.
+         */
+        long step(long positions, int letter) {
+            return closure(((positions & letterMasks[letter]) << 1) | (positions & starMask));
+        }
+
+    }
+
+    /*
+     * Growable list of word ids.
+     */
+    static final class IdList {
+
+        private int[] ids = new int[16];
+
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, 2 * size);
+            }
+            ids[size++] = id;
+        }
+
+        void addAll(int[] values) {
+            if (size + values.length > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(2 * ids.length, size + values.length));
+            }
+            System.arraycopy(values, 0, ids, size, values.length);
+            size += values.length;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+    }
+
+    /*
+     * Node of the automaton while building. Once registered, it is never
+     * changed, so can be compared by its letters, its finality and the
+     * identity of its targets.
+     */
+    private static final class State {
+
+        private byte[] labels = new byte[2];
+
+        private State[] targets = new State[2];
+
+        private int size;
+
+        private boolean terminal;
+
+        void add(byte label, State target) {
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, 2 * size);
+                targets = Arrays.copyOf(targets, 2 * size);
+            }
+            labels[size] = label;
+            targets[size] = target;
+            size += 1;
+        }
+
+        State last() {
+            return size == 0 ? null : targets[size - 1];
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof State)) {
+                return false;
+            }
+            State other = (State) obj;
+            if (terminal != other.terminal || size != other.size) {
+                return false;
+            }
+            for (int ix = 0; ix < size; ix += 1) {
+                if (labels[ix] != other.labels[ix] || targets[ix] != other.targets[ix]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = terminal ? 1 : 0;
+            for (int ix = 0; ix < size; ix += 1) {
+                h = 31 * h + labels[ix];
+                h = 31 * h + System.identityHashCode(targets[ix]);
+            }
+            return h;
+        }
+
+    }
+
+    /*
+     * Incremental construction from sorted words (Daciuk et al.): the nodes
+     * of the previous word not shared with the next word are final, and are
+     * replaced by their registered equivalent, if any.
+     */
+    private static final class Builder {
+
+        private final State root = new State();
+
+        private final Map<State, State> register = new HashMap<>();
+
+        void add(PackedWords words, int id) {
+            int offset = words.offset(id);
+            int length = words.length(id);
+            // the prefix shared with the previous word, along the last edges
+            int common = 0;
+            State state = root;
+            while (common < length && state.size > 0
+                    && state.labels[state.size - 1] == (byte) words.charAt(offset + common)) {
+                state = state.last();
+                common += 1;
+            }
+            if (state.size > 0) {
+                replaceOrRegister(state);
+            }
+            for (int ix = common; ix < length; ix += 1) {
+                State next = new State();
+                state.add((byte) words.charAt(offset + ix), next);
+                state = next;
+            }
+            state.terminal = true;
+        }
+
+        private void replaceOrRegister(State state) {
+            State child = state.last();
+            if (child.size > 0) {
+                replaceOrRegister(child);
+            }
+            State registered = register.get(child);
+            if (registered != null) {
+                state.targets[state.size - 1] = registered;
+            } else {
+                register.put(child, child);
+            }
+        }
+
+        State finish() {
+            if (root.size > 0) {
+                replaceOrRegister(root);
+            }
+            return root;
+        }
+
+    }
+
+}
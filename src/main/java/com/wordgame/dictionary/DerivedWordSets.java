@@ -0,0 +1,89 @@
+package com.wordgame.dictionary;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The sets of words derived from the dictionary, computed once when the
+ * snapshot is built, then served as they are (read-only).
+ *
+ * - Palindromes: words of more than one letter, same when reversed ("level").
+ * - Semordnilaps: pairs of different words, each the other reversed
+ *   ("deliver" and "reviled").
+ */
+public final class DerivedWordSets {
+
+    private final int[] palindromeIds;
+
+    /*
+     * Ids of the word of lesser order at `2 * i`, of the other word at `2 * i + 1`.
+     */
+    private final int[] semordnilapIds;
+
+    private final List<String> palindromes;
+
+    private final Map<String, String> semordnilaps;
+
+    static DerivedWordSets of(WordDictionary dictionary) {
+        PackedWords words = dictionary.getPackedWords();
+        MembershipIndex index = dictionary.getMembershipIndex();
+        Dawg.IdList palindromeIds = new Dawg.IdList();
+        Dawg.IdList semordnilapIds = new Dawg.IdList();
+        StringBuilder reversed = new StringBuilder();
+        for (int id = 0; id < words.size(); id += 1) {
+            int offset = words.offset(id);
+            reversed.setLength(0);
+            for (int pos = offset + words.length(id) - 1; pos >= offset; pos -= 1) {
+                reversed.append(words.charAt(pos));
+            }
+            int other = index.indexOf(reversed);
+            if (other == id) {
+                if (words.length(id) > 1) {
+                    palindromeIds.add(id);
+                }
+            } else if (other > id) {
+                semordnilapIds.add(id);
+                semordnilapIds.add(other);
+            }
+        }
+        return new DerivedWordSets(dictionary, palindromeIds.toArray(), semordnilapIds.toArray());
+    }
+
+    private DerivedWordSets(WordDictionary dictionary, int[] palindromeIds, int[] semordnilapIds) {
+        this.palindromeIds = palindromeIds;
+        this.semordnilapIds = semordnilapIds;
+        this.palindromes = new WordIdList(dictionary, palindromeIds);
+        Map<String, String> pairs = new LinkedHashMap<>();
+        for (int ix = 0; ix < semordnilapIds.length; ix += 2) {
+            pairs.put(dictionary.getWord(semordnilapIds[ix]), dictionary.getWord(semordnilapIds[ix + 1]));
+        }
+        this.semordnilaps = Collections.unmodifiableMap(pairs);
+    }
+
+    void write(DictionaryFile.Writer out) {
+        out.ints(palindromeIds);
+        out.ints(semordnilapIds);
+    }
+
+    static DerivedWordSets read(WordDictionary dictionary, DictionaryFile.Reader in) {
+        return new DerivedWordSets(dictionary, in.intArray(), in.intArray());
+    }
+
+    /**
+     * @return  The palindrome words, in dictionary order.
+     */
+    public List<String> getPalindromes() {
+        return palindromes;
+    }
+
+    /**
+     * @return  The semordnilap pairs, each pair once: the word of lesser
+     *          order to the other (reversed) word, in dictionary order.
+     */
+    public Map<String, String> getSemordnilaps() {
+        return semordnilaps;
+    }
+
+}
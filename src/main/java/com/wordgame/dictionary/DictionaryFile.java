@@ -0,0 +1,343 @@
+package com.wordgame.dictionary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The compiled dictionary file (".jdict"): the packed words along with all
+ * the indexes of a {@link WordDictionary}, as built. Loading maps the file
+ * read-only and serves the indexes from the mapped pages, so no index is
+ * built, and the JVMs of a host share the page cached copy. Out of the jar,
+ * the file is first extracted (see {@link #extract(InputStream, String, Path)}).
+ *
+ * Layout, little endian:
+ *
+ * - header: magic, format {@link #VERSION}, word count, CRC-32 of the word
+ *   list compiled from, CRC-32 of the packed words.
+ * - sections, as written by {@link WordDictionary}: each array prefixed by
+ *   its length, and aligned on 8 bytes.
+ */
+public final class DictionaryFile {
+
+    /**
+     * The file extension, e.g. "words.jdict" compiled from "words.txt".
+     */
+    public static final String EXTENSION = ".jdict";
+
+    /**
+     * The format version, changed on any change of the layout.
+     */
+    public static final int VERSION = 2;
+
+    private static final int MAGIC = 0x5443444A; // "JDCT"
+
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int HEADER_SIZE = 28;
+
+    private static final Logger LOG = LoggerFactory.getLogger(DictionaryFile.class);
+
+    private DictionaryFile() {
+    }
+
+    /**
+     * Writes the compiled `dictionary` to `file`.
+     *
+     * @param dictionary      The dictionary snapshot.
+     * @param sourceChecksum  The {@link #checksum(ByteBuffer)} of the word list compiled from.
+     * @param file            The file to write.
+     */
+    public static void write(WordDictionary dictionary, long sourceChecksum, Path file) throws IOException {
+        Writer out = new Writer();
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.putInt(dictionary.size());
+        out.putLong(sourceChecksum);
+        out.putLong(dictionary.getChecksum());
+        dictionary.write(out);
+        ByteBuffer bytes = out.finish();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Maps the compiled dictionary `file`, read-only.
+     *
+     * @param file  The file to map.
+     * @return  The mapped file.
+     */
+    public static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Extracts the compiled dictionary read from `in` (e.g. out of the jar)
+     * into `directory`, so it can be mapped.
+     *
+     * The file is named after its checksums, so the JVMs of a host running
+     * the same jar map the same file, and it is extracted once.
+     * Written aside and moved into place, so never seen half written.
+     *
+     * @param in         The compiled dictionary, e.g. "words.jdict".
+     * @param name       The name of the compiled dictionary.
+     * @param directory  The directory to extract to.
+     * @return  The extracted file.
+     * @throws IOException  If not a compiled dictionary, not of {@link #VERSION},
+     *                      or on failure to write the file.
+     */
+    public static Path extract(InputStream in, String name, Path directory) throws IOException {
+        byte[] head = new byte[HEADER_SIZE];
+        int size = 0;
+        int num;
+        while (size < head.length && (num = in.read(head, size, head.length - size)) > 0) {
+            size += num;
+        }
+        long[] checksums = new Reader(ByteBuffer.wrap(head, 0, size)).header();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        Path file = directory.resolve(base + "-v" + VERSION + "-" + Long.toHexString(checksums[0]) + "-"
+                + Long.toHexString(checksums[1]) + EXTENSION);
+        if (Files.isRegularFile(file)) {
+            return file;
+        }
+        Files.createDirectories(directory);
+        Path part = Files.createTempFile(directory, base, ".part");
+        try {
+            try (OutputStream out = Files.newOutputStream(part)) {
+                out.write(head);
+                byte[] buffer = new byte[64 * 1024];
+                while ((num = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, num);
+                }
+            }
+            Files.move(part, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+        return file;
+    }
+
+    /**
+     * Reads the header of the compiled dictionary.
+     *
+     * @param buffer  The compiled dictionary.
+     * @return  The checksum of the word list it was compiled from.
+     * @throws IOException  If not a compiled dictionary, or not of {@link #VERSION}.
+     */
+    public static long sourceChecksum(ByteBuffer buffer) throws IOException {
+        return new Reader(buffer).header()[0];
+    }
+
+    /**
+     * Reads the compiled dictionary, serving the indexes from `buffer` (no copying).
+     *
+     * @param buffer      The compiled dictionary, e.g. mapped.
+     * @param startNanos  When loading started, from `System.nanoTime()`.
+     * @return  The dictionary snapshot.
+     * @throws IOException  If not a compiled dictionary, not of {@link #VERSION},
+     *                      or its words do not match the checksum.
+     */
+    public static WordDictionary read(ByteBuffer buffer, long startNanos) throws IOException {
+        Reader in = new Reader(buffer);
+        long checksum = in.header()[1];
+        WordDictionary dictionary = new WordDictionary(PackedWords.read(in), in, startNanos);
+        if (dictionary.getChecksum() != checksum) {
+            throw new IOException("invalid checksum of words");
+        }
+        return dictionary;
+    }
+
+    /**
+     * @return  The CRC-32 of the remaining bytes of `data`.
+     */
+    public static long checksum(ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * Compiles the word list into the dictionary file (build time).
+     *
+     * Usage: DictionaryFile &lt;words.txt&gt; &lt;words.jdict&gt;
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: DictionaryFile <words.txt> <words.jdict>");
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        ByteBuffer text = ByteBuffer.wrap(Files.readAllBytes(source));
+        WordDictionary dictionary = DictionaryLoader.parse(text, System.nanoTime());
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        write(dictionary, checksum(text), target);
+        LOG.info("compiled {} into {} ({} bytes): {}", source, target, Files.size(target), dictionary);
+    }
+
+    /*
+     * Writes the sections, growing the buffer as needed.
+     */
+    static final class Writer {
+
+        private ByteBuffer buffer = ByteBuffer.allocate(1 << 20).order(ORDER);
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void ints(IntBuffer values) {
+            begin(values.limit(), 4);
+            for (int ix = 0; ix < values.limit(); ix += 1) {
+                buffer.putInt(values.get(ix));
+            }
+        }
+
+        void ints(int[] values) {
+            ints(IntBuffer.wrap(values));
+        }
+
+        void longs(LongBuffer values) {
+            begin(values.limit(), 8);
+            for (int ix = 0; ix < values.limit(); ix += 1) {
+                buffer.putLong(values.get(ix));
+            }
+        }
+
+        void bytes(ByteBuffer values) {
+            begin(values.limit(), 1);
+            for (int ix = 0; ix < values.limit(); ix += 1) {
+                buffer.put(values.get(ix));
+            }
+        }
+
+        private void begin(int length, int size) {
+            putInt(length);
+            align();
+            ensure(length * size + 8);
+        }
+
+        private void align() {
+            ensure(8);
+            while ((buffer.position() & 7) != 0) {
+                buffer.put((byte) 0);
+            }
+        }
+
+        private void ensure(int num) {
+            if (buffer.remaining() < num) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(2 * buffer.capacity(), buffer.position() + num));
+                buffer.flip();
+                larger.order(ORDER).put(buffer);
+                buffer = larger;
+            }
+        }
+
+        ByteBuffer finish() {
+            align();
+            buffer.flip();
+            return buffer;
+        }
+
+    }
+
+    /*
+     * Reads the sections, as views of the buffer.
+     */
+    static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        private int position;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer.duplicate().order(ORDER);
+        }
+
+        /*
+         * @return  The source checksum, and the checksum of the words.
+         */
+        long[] header() throws IOException {
+            if (buffer.limit() < HEADER_SIZE || getInt() != MAGIC) {
+                throw new IOException("not a compiled dictionary");
+            }
+            int version = getInt();
+            if (version != VERSION) {
+                throw new IOException("compiled dictionary of version " + version + ", expect " + VERSION);
+            }
+            getInt();
+            return new long[] { getLong(), getLong() };
+        }
+
+        int getInt() {
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
+        }
+
+        long getLong() {
+            long value = buffer.getLong(position);
+            position += 8;
+            return value;
+        }
+
+        IntBuffer ints() {
+            return slice(4).asIntBuffer();
+        }
+
+        int[] intArray() {
+            IntBuffer values = ints();
+            int[] array = new int[values.limit()];
+            values.get(array);
+            return array;
+        }
+
+        LongBuffer longs() {
+            return slice(8).asLongBuffer();
+        }
+
+        ByteBuffer bytes() {
+            return slice(1);
+        }
+
+        private ByteBuffer slice(int size) {
+            int length = getInt();
+            position = (position + 7) & ~7;
+            ByteBuffer view = buffer.duplicate();
+            view.limit(position + length * size);
+            view.position(position);
+            position += length * size;
+            return view.slice().order(ORDER);
+        }
+
+    }
+
+}
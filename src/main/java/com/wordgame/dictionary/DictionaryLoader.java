@@ -0,0 +1,361 @@
+package com.wordgame.dictionary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the word list (one word per line) and builds the immutable
+ * {@link WordDictionary} snapshot from it.
+ *
+ * The compiled dictionary is loaded instead, if available and up to date
+ * (see {@link #load(String)}).
+ *
+ * The file is memory mapped, and the lines are found in the mapped bytes.
+ * If the word list is already normalized (as "words.txt": lower case,
+ * sorted and unique ASCII words), the words are copied as they are into the
+ * packed store, without decoding each line. Else, the text is decoded
+ * (UTF-8) and normalized first.
+ */
+public final class DictionaryLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DictionaryLoader.class);
+
+    /**
+     * The word list on the classpath, when no path is given.
+     */
+    public static final String DEFAULT_RESOURCE = "words.txt";
+
+    private DictionaryLoader() {
+    }
+
+    /**
+     * Loads the words from the file at `path`, if exists. Else, from the
+     * classpath resource of the same file name (e.g. when running from the
+     * packaged jar).
+     *
+     * If the compiled dictionary (see {@link DictionaryFile}) of the same
+     * name, e.g. "words.jdict", is on the classpath, and was compiled from
+     * the same word list, it is loaded instead.
+     *
+     * @param path  The word list file, or null for {@link #DEFAULT_RESOURCE}.
+     * @return  The dictionary snapshot.
+     */
+    public static WordDictionary load(String path) {
+        Path file = path == null || path.trim().isEmpty() ? null : Paths.get(path.trim());
+        String name = file == null || file.getFileName() == null ? DEFAULT_RESOURCE : file.getFileName().toString();
+        String compiledName = compiledName(name);
+        if (file != null && Files.isRegularFile(file)) {
+            return load(file, compiledName);
+        }
+        long start = System.nanoTime();
+        long heap = usedHeap();
+        WordDictionary dictionary = loadCompiled(compiledName, null, start);
+        if (dictionary == null) {
+            return loadResource(name);
+        }
+        log("classpath:" + compiledName, dictionary, heap);
+        return dictionary;
+    }
+
+    /**
+     * Loads the words as {@link #load(String)}, along with their frequencies
+     * from `frequenciesPath` (see {@link WordFrequencies#load(Path, WordDictionary)}),
+     * if given.
+     *
+     * Failure to read the frequencies is logged, and results in the
+     * dictionary without frequencies.
+     *
+     * @param path             The word list file, or null for {@link #DEFAULT_RESOURCE}.
+     * @param frequenciesPath  The word frequencies file, or null (or empty) for none.
+     * @return  The dictionary snapshot.
+     */
+    public static WordDictionary load(String path, String frequenciesPath) {
+        WordDictionary dictionary = load(path);
+        if (frequenciesPath == null || frequenciesPath.trim().isEmpty()) {
+            return dictionary;
+        }
+        long start = System.nanoTime();
+        Path file = Paths.get(frequenciesPath.trim());
+        try {
+            dictionary = dictionary.withFrequencies(WordFrequencies.load(file, dictionary), start);
+            LOG.info("loaded word frequencies from {} in {}ms: {}", file,
+                    (System.nanoTime() - start) / 1000000, dictionary.getFrequencies());
+        } catch (IOException e) {
+            LOG.error("error on loading word frequencies from {}: {}", file, e.getMessage());
+        }
+        return dictionary;
+    }
+
+    /**
+     * @param name  The word list name, e.g. "words.txt".
+     * @return  The compiled dictionary name, e.g. "words.jdict".
+     */
+    public static String compiledName(String name) {
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name) + DictionaryFile.EXTENSION;
+    }
+
+    private static WordDictionary load(Path path, String compiledName) {
+        long start = System.nanoTime();
+        long heap = usedHeap();
+        WordDictionary dictionary;
+        Object source = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer text = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            dictionary = loadCompiled(compiledName, DictionaryFile.checksum(text), start);
+            if (dictionary == null) {
+                dictionary = parse(text, start);
+            } else {
+                source = "classpath:" + compiledName;
+            }
+        } catch (IOException e) {
+            LOG.error("error on loading words from {}: {}", path, e.getMessage());
+            dictionary = build(Collections.emptyList(), start);
+        }
+        log(source, dictionary, heap);
+        return dictionary;
+    }
+
+    /*
+     * Loads the compiled dictionary from the classpath, mapped: in place if a
+     * file, else (in the jar) once extracted to the temporary directory.
+     * Returns null if not found, invalid, or not compiled from the word list
+     * of `sourceChecksum` (if given).
+     */
+    private static WordDictionary loadCompiled(String name, Long sourceChecksum, long start) {
+        URL url = DictionaryLoader.class.getClassLoader().getResource(name);
+        if (url == null) {
+            return null;
+        }
+        try {
+            Path file;
+            if ("file".equals(url.getProtocol())) {
+                file = Paths.get(url.toURI());
+            } else {
+                try (InputStream in = url.openStream()) {
+                    file = DictionaryFile.extract(in, name, Paths.get(System.getProperty("java.io.tmpdir")));
+                }
+                LOG.info("compiled dictionary {} extracted to {}", url, file);
+            }
+            ByteBuffer buffer = DictionaryFile.map(file);
+            if (sourceChecksum != null && DictionaryFile.sourceChecksum(buffer) != sourceChecksum) {
+                LOG.info("compiled dictionary {} is out of date, loading the word list instead", url);
+                return null;
+            }
+            return DictionaryFile.read(buffer, start);
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOG.warn("error on loading compiled dictionary {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads the words from `path`, memory mapped.
+     *
+     * Failure to read the file is logged, and results in an empty dictionary.
+     *
+     * @param path  The word list file.
+     * @return  The dictionary snapshot.
+     */
+    public static WordDictionary load(Path path) {
+        long start = System.nanoTime();
+        long heap = usedHeap();
+        WordDictionary dictionary;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            dictionary = parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), start);
+        } catch (IOException e) {
+            LOG.error("error on loading words from {}: {}", path, e.getMessage());
+            dictionary = build(Collections.emptyList(), start);
+        }
+        log(path, dictionary, heap);
+        return dictionary;
+    }
+
+    /**
+     * Loads the words from the classpath resource `name`, read at once.
+     *
+     * Missing resource, or failure to read it, is logged, and results in an
+     * empty dictionary.
+     *
+     * @param name  The resource name.
+     * @return  The dictionary snapshot.
+     */
+    public static WordDictionary loadResource(String name) {
+        long start = System.nanoTime();
+        long heap = usedHeap();
+        WordDictionary dictionary;
+        ClassLoader classLoader = DictionaryLoader.class.getClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("resource not found");
+            }
+            dictionary = parse(ByteBuffer.wrap(readAll(in)), start);
+        } catch (IOException e) {
+            LOG.error("error on loading words from classpath:{}: {}", name, e.getMessage());
+            dictionary = build(Collections.emptyList(), start);
+        }
+        log("classpath:" + name, dictionary, heap);
+        return dictionary;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(in.available(), 8192));
+        byte[] buffer = new byte[64 * 1024];
+        int num;
+        while ((num = in.read(buffer)) > 0) {
+            out.write(buffer, 0, num);
+        }
+        return out.toByteArray();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void log(Object source, WordDictionary dictionary, long heap) {
+        LOG.info("loaded dictionary from {} in {}ms (heap used {}KB, was {}KB): {}", source,
+                dictionary.getBuildDuration().toMillis(), usedHeap() / 1024, heap / 1024, dictionary);
+    }
+
+    /**
+     * Builds a dictionary snapshot from the given (raw) words.
+     *
+     * @param words  The words, not necessarily normalized.
+     * @return  The dictionary snapshot.
+     */
+    public static WordDictionary build(Collection<String> words) {
+        return build(words, System.nanoTime());
+    }
+
+    private static WordDictionary build(Collection<String> words, long start) {
+        String[] normalized = new String[words.size()];
+        int count = 0;
+        for (String word : words) {
+            String value = normalize(word);
+            if (value != null) {
+                normalized[count++] = value;
+            }
+        }
+        Arrays.sort(normalized, 0, count);
+        int unique = 0;
+        for (int ix = 0; ix < count; ix += 1) {
+            if (unique == 0 || ! normalized[unique - 1].equals(normalized[ix])) {
+                normalized[unique++] = normalized[ix];
+            }
+        }
+        return new WordDictionary(Arrays.copyOf(normalized, unique), start);
+    }
+
+    private static String normalize(String word) {
+        if (word == null) {
+            return null;
+        }
+        String value = word.trim().toLowerCase(Locale.ROOT);
+        if (value.isEmpty()) {
+            return null;
+        }
+        for (int ix = 0; ix < value.length(); ix += 1) {
+            if (value.charAt(ix) > 0xFF) {
+                LOG.warn("skipping word not of Latin-1 letters: {}", value);
+                return null;
+            }
+        }
+        return value;
+    }
+
+    /*
+     * Builds the snapshot from the bytes of the word list.
+     */
+    static WordDictionary parse(ByteBuffer data, long start) {
+        PackedWords words = pack(data);
+        if (words != null) {
+            return new WordDictionary(words, start);
+        }
+        String text = StandardCharsets.UTF_8.decode(data.duplicate()).toString();
+        return build(Arrays.asList(text.split("\r\n|\r|\n")), start);
+    }
+
+    /*
+     * Packs the lines of `data`, if already normalized: trimmed lines of
+     * printable ASCII without upper case letters, in strictly ascending order
+     * (blank lines are skipped). Else, returns null.
+     */
+    static PackedWords pack(ByteBuffer data) {
+        int limit = data.limit();
+        byte[] bytes = new byte[limit];
+        int[] offsets = new int[1024];
+        int count = 0;
+        int pos = 0;
+        int previous = -1;
+        int next = 0;
+        while (next < limit) {
+            int from = next;
+            int to = from;
+            while (to < limit && data.get(to) != '\n') {
+                to += 1;
+            }
+            next = to + 1;
+            while (from < to && (data.get(from) & 0xFF) <= ' ') {
+                from += 1;
+            }
+            while (to > from && (data.get(to - 1) & 0xFF) <= ' ') {
+                to -= 1;
+            }
+            if (from == to) {
+                continue;
+            }
+            for (int ix = from; ix < to; ix += 1) {
+                int b = data.get(ix) & 0xFF;
+                if (b < ' ' || b >= 0x7F || (b >= 'A' && b <= 'Z')) {
+                    return null;
+                }
+                bytes[pos + ix - from] = (byte) b;
+            }
+            if (previous >= 0 && compare(bytes, previous, pos, pos + to - from) >= 0) {
+                return null;
+            }
+            if (count + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+            }
+            offsets[count++] = pos;
+            previous = pos;
+            pos += to - from;
+        }
+        offsets[count] = pos;
+        return new PackedWords(ByteBuffer.wrap(Arrays.copyOf(bytes, pos)), IntBuffer.wrap(Arrays.copyOf(offsets, count + 1)));
+    }
+
+    /*
+     * Compares the word at [a, b) against the word at [b, end) of `bytes`.
+     */
+    private static int compare(byte[] bytes, int a, int b, int end) {
+        int len = Math.min(b - a, end - b);
+        for (int ix = 0; ix < len; ix += 1) {
+            int diff = (bytes[a + ix] & 0xFF) - (bytes[b + ix] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (b - a) - (end - b);
+    }
+
+}
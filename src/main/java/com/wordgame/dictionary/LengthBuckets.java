@@ -0,0 +1,83 @@
+package com.wordgame.dictionary;
+
+import java.nio.IntBuffer;
+
+/**
+ * The word ids grouped by word length, so the `i`-th word of a given
+ * length is an array access (for picking words randomly).
+ */
+public final class LengthBuckets {
+
+    private final IntBuffer ids;
+
+    /*
+     * Bucket of length `n` spans `ids[starts[n]]` to `ids[starts[n + 1] - 1]`.
+     */
+    private final IntBuffer starts;
+
+    LengthBuckets(PackedWords words) {
+        int maxLength = 0;
+        for (int id = 0; id < words.size(); id += 1) {
+            maxLength = Math.max(maxLength, words.length(id));
+        }
+        int[] starts = new int[maxLength + 2];
+        for (int id = 0; id < words.size(); id += 1) {
+            starts[words.length(id) + 1] += 1;
+        }
+        for (int len = 1; len < starts.length; len += 1) {
+            starts[len] += starts[len - 1];
+        }
+        int[] ids = new int[words.size()];
+        int[] next = starts.clone();
+        for (int id = 0; id < words.size(); id += 1) {
+            ids[next[words.length(id)]++] = id;
+        }
+        this.ids = IntBuffer.wrap(ids);
+        this.starts = IntBuffer.wrap(starts);
+    }
+
+    private LengthBuckets(IntBuffer ids, IntBuffer starts) {
+        this.ids = ids;
+        this.starts = starts;
+    }
+
+    void write(DictionaryFile.Writer out) {
+        out.ints(ids);
+        out.ints(starts);
+    }
+
+    static LengthBuckets read(DictionaryFile.Reader in) {
+        return new LengthBuckets(in.ints(), in.ints());
+    }
+
+    /**
+     * @param length  The word length, or null for any length.
+     * @return  The number of words of `length`.
+     */
+    public int count(Integer length) {
+        if (length == null) {
+            return ids.limit();
+        }
+        if (length < 0 || length >= starts.limit() - 1) {
+            return 0;
+        }
+        return starts.get(length + 1) - starts.get(length);
+    }
+
+    /**
+     * @param length  The word length, or null for any length.
+     * @param index   The index within the words of `length`, from 0 to `count(length) - 1`.
+     * @return  The word id.
+     */
+    public int id(Integer length, int index) {
+        if (length == null) {
+            return index;
+        }
+        return ids.get(starts.get(length) + index);
+    }
+
+    public long getSizeInBytes() {
+        return Buffers.heapSize(ids) + Buffers.heapSize(starts);
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.wordgame.dictionary;
+
+/**
+ * The letter counts of a word, packed as 4-bit counts in two `long`s
+ * ('a' to 'p' in `low`, 'q' to 'z' in `high`), along with the 26-bit mask
+ * of the letters present.
+ *
+ * Checking that a word fits within the letters of another is then a mask
+ * test, followed by a SWAR comparison of the counts: no map, no boxing and
+ * no allocation.
+ *
+ * Counts above 15 and letters other than 'a' to 'z' can not be packed; the
+ * histogram is then flagged as {@link #EXACT}, and compared by counting the
+ * letters of the text.
+ */
+public final class LetterHistogram {
+
+    /**
+     * Mask bit of a histogram which can not be compared packed.
+     */
+    static final int EXACT = 1 << 26;
+
+    private static final int MAX_COUNT = 15;
+
+    private static final long NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+
+    private static final long BORROWS = 0x1010101010101010L;
+
+    private final CharSequence text;
+
+    private final long low;
+
+    private final long high;
+
+    private final int mask;
+
+    private LetterHistogram(CharSequence text, long low, long high, int mask) {
+        this.text = text;
+        this.low = low;
+        this.high = high;
+        this.mask = mask;
+    }
+
+    /**
+     * @param letters  The letters, case insensitive.
+     * @return  The histogram of `letters`. As the available letters, counts
+     *          above 15 are taken as 15, and letters other than 'a' to 'z'
+     *          are ignored (unless compared exactly).
+     */
+    public static LetterHistogram of(CharSequence letters) {
+        return new LetterHistogram(letters, pack(letters, 0, true), pack(letters, 1, true), mask(letters));
+    }
+
+    /**
+     * @return  The counts of 'a' to 'p' (`part` 0) or 'q' to 'z' (`part` 1)
+     *          of `text`. Or, if not `saturate`, -1 if any count above 15.
+     */
+    static long pack(CharSequence text, int part, boolean saturate) {
+        long counts = 0;
+        for (int ix = 0; ix < text.length(); ix += 1) {
+            int letter = PackedWords.foldCase(text.charAt(ix)) - 'a';
+            if (letter >= 0 && letter < 26 && (letter >>> 4) == part) {
+                int shift = (letter & 0xF) << 2;
+                if (((counts >>> shift) & 0xF) < MAX_COUNT) {
+                    counts += 1L << shift;
+                } else if (!saturate) {
+                    return -1L;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return  The mask of the letters of `text`, with {@link #EXACT} set if
+     *          any letter other than 'a' to 'z'.
+     */
+    static int mask(CharSequence text) {
+        int mask = 0;
+        for (int ix = 0; ix < text.length(); ix += 1) {
+            int letter = PackedWords.foldCase(text.charAt(ix)) - 'a';
+            mask |= letter >= 0 && letter < 26 ? 1 << letter : EXACT;
+        }
+        return mask;
+    }
+
+    /**
+     * Checks if the word of the packed histogram (`low`, `high`, `mask`)
+     * fits within these letters: each letter of the word occurs in these
+     * letters at least as many times.
+     *
+     * A word flagged {@link #EXACT} is not decided here; check with
+     * {@link #containsExactly(CharSequence)} instead.
+     */
+    private boolean contains(long low, long high, int mask) {
+        return (mask & ~this.mask) == 0 && fits(low, this.low) && fits(high, this.high);
+    }
+
+    /*
+     * Every 4-bit count of `word` less or equals the one of `letters`. The
+     * counts are spread to 8-bit lanes (even and odd nibbles), and each lane
+     * of `letters + 16 - word` keeps its 16 bit unless the count of the word
+     * is greater.
+     */
+    private static boolean fits(long word, long letters) {
+        long even = ((letters & NIBBLES) | BORROWS) - (word & NIBBLES);
+        long odd = (((letters >>> 4) & NIBBLES) | BORROWS) - ((word >>> 4) & NIBBLES);
+        return (even & odd & BORROWS) == BORROWS;
+    }
+
+    /**
+     * Checks if `word` fits within these letters, by counting each letter.
+     * For the words which can not be compared packed.
+     */
+    public boolean containsExactly(CharSequence word) {
+        return fitsExactly(word, text);
+    }
+
+    private static boolean fitsExactly(CharSequence word, CharSequence letters) {
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            char ch = PackedWords.foldCase(word.charAt(ix));
+            if (count(word, ch) > count(letters, ch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int count(CharSequence text, char ch) {
+        int count = 0;
+        for (int ix = 0; ix < text.length(); ix += 1) {
+            if (PackedWords.foldCase(text.charAt(ix)) == ch) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if `word` fits within these letters.
+     */
+    public boolean contains(CharSequence word) {
+        int mask = mask(word);
+        if ((mask & EXACT) == 0) {
+            long low = pack(word, 0, false);
+            long high = pack(word, 1, false);
+            if (low != -1L && high != -1L) {
+                return contains(low, high, mask);
+            }
+        }
+        return containsExactly(word);
+    }
+
+    /**
+     * Checks if `word` fits within `letters`: each letter of `word` occurs
+     * in `letters` at least as many times. Case insensitive, and without
+     * allocating.
+     */
+    public static boolean isSubWord(CharSequence letters, CharSequence word) {
+        int mask = mask(word);
+        if ((mask & EXACT) == 0 && (mask & ~mask(letters)) != 0) {
+            return false;
+        }
+        long low = pack(word, 0, false);
+        long high = pack(word, 1, false);
+        if ((mask & EXACT) != 0 || low == -1L || high == -1L) {
+            return fitsExactly(word, letters);
+        }
+        return fits(low, pack(letters, 0, true)) && fits(high, pack(letters, 1, true));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.wordgame.dictionary;
+
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * Case insensitive hash index of the words, for membership check.
+ *
+ * Open addressing (linear probing) over the {@link PackedWords}: a slot
+ * holds `id + 1` of the word, or 0 when empty. The table is kept at most
+ * half full, and the hash of each word is kept to skip comparing the
+ * letters of colliding words. Lookup does not allocate.
+ */
+public final class MembershipIndex {
+
+    private final PackedWords words;
+
+    private final IntBuffer slots;
+
+    private final IntBuffer hashes;
+
+    private final int mask;
+
+    MembershipIndex(PackedWords words) {
+        int capacity = Integer.highestOneBit(Math.max(2, words.size()) * 2 - 1) << 1;
+        int[] slots = new int[capacity];
+        int[] hashes = new int[words.size()];
+        for (int id = 0; id < words.size(); id += 1) {
+            int h = words.hash(id);
+            hashes[id] = h;
+            int slot = h & (capacity - 1);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slots[slot] = id + 1;
+        }
+        this.words = words;
+        this.slots = IntBuffer.wrap(slots);
+        this.hashes = IntBuffer.wrap(hashes);
+        this.mask = capacity - 1;
+    }
+
+    private MembershipIndex(PackedWords words, IntBuffer slots, IntBuffer hashes) {
+        this.words = words;
+        this.slots = slots;
+        this.hashes = hashes;
+        this.mask = slots.limit() - 1;
+    }
+
+    void write(DictionaryFile.Writer out) {
+        out.ints(slots);
+        out.ints(hashes);
+    }
+
+    static MembershipIndex read(PackedWords words, DictionaryFile.Reader in) {
+        return new MembershipIndex(words, in.ints(), in.ints());
+    }
+
+    /**
+     * Looks up the word, case insensitive.
+     *
+     * @param word  The word to look up.
+     * @return  The word id, or -1 if not found.
+     */
+    public int indexOf(CharSequence word) {
+        if (word == null || word.length() == 0) {
+            return -1;
+        }
+        int h = PackedWords.hash(word);
+        int slot = h & mask;
+        int entry;
+        while ((entry = slots.get(slot)) != 0) {
+            int id = entry - 1;
+            if (hashes.get(id) == h && words.equalsIgnoreCase(id, word)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Looks up the words [from, to) of `words`, case insensitive, and sets
+     * the bit `i` of `bits` for each word `i` found. The bits are written a
+     * long (64 words) at a time.
+     *
+     * @param words  The words, null or empty never found.
+     * @param from   The first word, inclusive, a multiple of 64.
+     * @param to     The last word, exclusive.
+     * @param bits   The bit set, of the word indexes. Only the longs of
+     *               [from, to) are written.
+     */
+    public void lookup(List<? extends CharSequence> words, int from, int to, long[] bits) {
+        for (int block = from; block < to; block += 64) {
+            int end = Math.min(block + 64, to);
+            long found = 0;
+            for (int ix = block; ix < end; ix += 1) {
+                if (indexOf(words.get(ix)) >= 0) {
+                    found |= 1L << (ix - block);
+                }
+            }
+            bits[block >>> 6] = found;
+        }
+    }
+
+    public long getSizeInBytes() {
+        return Buffers.heapSize(slots) + Buffers.heapSize(hashes);
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.wordgame.dictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * The words packed back to back, one Latin-1 byte per letter, plus the
+ * offsets table where word `i` spans `[offset(i), offset(i + 1))`.
+ *
+ * Words are addressed by their index (the "word id") in the dictionary.
+ */
+public final class PackedWords {
+
+    private final ByteBuffer data;
+
+    private final IntBuffer offsets;
+
+    private final int size;
+
+    PackedWords(ByteBuffer data, IntBuffer offsets) {
+        this.data = data;
+        this.offsets = offsets;
+        this.size = offsets.limit() - 1;
+    }
+
+    static PackedWords of(String[] words) {
+        int total = 0;
+        for (String word : words) {
+            total += word.length();
+        }
+        byte[] bytes = new byte[total];
+        int[] offsets = new int[words.length + 1];
+        int pos = 0;
+        for (int ix = 0; ix < words.length; ix += 1) {
+            offsets[ix] = pos;
+            String word = words[ix];
+            for (int jx = 0; jx < word.length(); jx += 1) {
+                char ch = word.charAt(jx);
+                bytes[pos++] = (byte) (ch <= 0xFF ? ch : '?');
+            }
+        }
+        offsets[words.length] = pos;
+        return new PackedWords(ByteBuffer.wrap(bytes), IntBuffer.wrap(offsets));
+    }
+
+    void write(DictionaryFile.Writer out) {
+        out.bytes(data);
+        out.ints(offsets);
+    }
+
+    static PackedWords read(DictionaryFile.Reader in) {
+        return new PackedWords(in.bytes(), in.ints());
+    }
+
+    /**
+     * @return  The CRC-32 of the packed words and offsets.
+     */
+    long checksum() {
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        for (int ix = 0; ix <= size; ix += 1) {
+            int offset = offsets.get(ix);
+            crc.update(offset >>> 24);
+            crc.update(offset >>> 16);
+            crc.update(offset >>> 8);
+            crc.update(offset);
+        }
+        return crc.getValue();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int offset(int id) {
+        return offsets.get(id);
+    }
+
+    public int length(int id) {
+        return offsets.get(id + 1) - offsets.get(id);
+    }
+
+    /**
+     * @param pos  The absolute position in the packed data.
+     * @return  The letter at `pos`.
+     */
+    public char charAt(int pos) {
+        return (char) (data.get(pos) & 0xFF);
+    }
+
+    public char firstChar(int id) {
+        return charAt(offsets.get(id));
+    }
+
+    public char lastChar(int id) {
+        return charAt(offsets.get(id + 1) - 1);
+    }
+
+    /**
+     * Decodes the word `id` into a new `String`.
+     */
+    public String get(int id) {
+        int start = offsets.get(id);
+        int end = offsets.get(id + 1);
+        if (data.hasArray()) {
+            return new String(data.array(), data.arrayOffset() + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[end - start];
+        for (int ix = 0; ix < chars.length; ix += 1) {
+            chars[ix] = charAt(start + ix);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return  The word `id` as character sequence, reading the packed data
+     *          (no decoding).
+     */
+    public CharSequence subSequence(int id) {
+        return new Word(offsets.get(id), offsets.get(id + 1));
+    }
+
+    /**
+     * Compares the word `id` against `text`, folding `text` to lower case.
+     *
+     * @return  true if both are of same letters.
+     */
+    public boolean equalsIgnoreCase(int id, CharSequence text) {
+        int start = offsets.get(id);
+        int len = offsets.get(id + 1) - start;
+        if (len != text.length()) {
+            return false;
+        }
+        for (int ix = 0; ix < len; ix += 1) {
+            if (charAt(start + ix) != foldCase(text.charAt(ix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the word `id` against `text`, case sensitive.
+     *
+     * @return  true if both are of same letters.
+     */
+    public boolean contentEquals(int id, CharSequence text) {
+        int start = offsets.get(id);
+        int len = offsets.get(id + 1) - start;
+        if (len != text.length()) {
+            return false;
+        }
+        for (int ix = 0; ix < len; ix += 1) {
+            if (charAt(start + ix) != text.charAt(ix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return  The hash of word `id`, same as {@link #hash(CharSequence)} of the word.
+     */
+    public int hash(int id) {
+        int start = offsets.get(id);
+        int end = offsets.get(id + 1);
+        int h = 0;
+        for (int pos = start; pos < end; pos += 1) {
+            h = 31 * h + charAt(pos);
+        }
+        return mix(h);
+    }
+
+    /**
+     * @return  The case folded hash of `text`.
+     */
+    public static int hash(CharSequence text) {
+        int h = 0;
+        for (int ix = 0; ix < text.length(); ix += 1) {
+            h = 31 * h + foldCase(text.charAt(ix));
+        }
+        return mix(h);
+    }
+
+    static char foldCase(char ch) {
+        if (ch >= 'A' && ch <= 'Z') {
+            return (char) (ch + ('a' - 'A'));
+        }
+        if (ch < 0x80) {
+            return ch;
+        }
+        return Character.toLowerCase(ch);
+    }
+
+    /*
+     * Final mix of MurmurHash3, spreads the bits for the power of 2 tables.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * @return  The heap used by the packed data, buffers mapped outside of
+     *          the heap are not counted.
+     */
+    public long getSizeInBytes() {
+        return Buffers.heapSize(data) + Buffers.heapSize(offsets);
+    }
+
+    /*
+     * View of the letters [start, end) of the packed data.
+     */
+    private final class Word implements CharSequence {
+
+        private final int start;
+
+        private final int end;
+
+        Word(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return PackedWords.this.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new Word(start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(length());
+            return sb.append(this, 0, length()).toString();
+        }
+
+    }
+
+}
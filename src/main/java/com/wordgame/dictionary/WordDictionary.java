@@ -0,0 +1,504 @@
+package com.wordgame.dictionary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Immutable snapshot of the internal word list/dictionary.
+ *
+ * The words are normalized when the snapshot is built: trimmed, lower case,
+ * of Latin-1 letters, without blank lines or duplicates, and in
+ * lexicographic order. A snapshot
+ * is built once and then shared (read-only) by every query of the engine.
+ *
+ * The words are kept only in the {@link PackedWords} (no `String` per
+ * word), and the query results are views over word ids, decoding a word
+ * when read.
+ */
+public final class WordDictionary {
+
+    private final PackedWords packedWords;
+
+    private final List<String> wordList;
+
+    private final MembershipIndex membershipIndex;
+
+    private final BitmapIndex bitmapIndex;
+
+    private final LengthBuckets lengthBuckets;
+
+    private final Dawg dawg;
+
+    private final DerivedWordSets derivedWordSets;
+
+    /*
+     * The word frequencies, from the optional side file, else null.
+     */
+    private final WordFrequencies frequencies;
+
+    /*
+     * The filter of the words not in the dictionary, before the membership
+     * index, if built, else null.
+     */
+    private final BloomFilter bloomFilter;
+
+    private final long checksum;
+
+    private final boolean compiled;
+
+    private final Instant builtAt;
+
+    private final Duration buildDuration;
+
+    /**
+     * Builds the snapshot, and all its indexes.
+     *
+     * @param words       The normalized words, sorted and unique.
+     * @param startNanos  When loading of the words started, from `System.nanoTime()`.
+     */
+    WordDictionary(String[] words, long startNanos) {
+        this(PackedWords.of(words), null, startNanos);
+    }
+
+    /**
+     * Builds the snapshot from the packed words, and all its indexes.
+     *
+     * @param packedWords  The normalized words, sorted and unique.
+     * @param startNanos   When loading of the words started, from `System.nanoTime()`.
+     */
+    WordDictionary(PackedWords packedWords, long startNanos) {
+        this(packedWords, null, startNanos);
+    }
+
+    /**
+     * Reads the snapshot from the compiled dictionary file, with the indexes
+     * as written by {@link #write(DictionaryFile.Writer)}.
+     *
+     * @param packedWords  The normalized words, sorted and unique.
+     * @param indexes      The compiled dictionary, positioned at the indexes.
+     * @param startNanos   When loading of the words started, from `System.nanoTime()`.
+     */
+    WordDictionary(PackedWords packedWords, DictionaryFile.Reader indexes, long startNanos) {
+        this.packedWords = packedWords;
+        this.wordList = new WordRangeList(this, 0, packedWords.size());
+        this.checksum = packedWords.checksum();
+        if (indexes == null) {
+            this.membershipIndex = new MembershipIndex(packedWords);
+            this.bitmapIndex = new BitmapIndex(packedWords);
+            this.lengthBuckets = new LengthBuckets(packedWords);
+            this.dawg = new Dawg(packedWords);
+            // last, looks up the words through the indexes above
+            this.derivedWordSets = DerivedWordSets.of(this);
+        } else {
+            this.membershipIndex = MembershipIndex.read(packedWords, indexes);
+            this.bitmapIndex = BitmapIndex.read(indexes);
+            this.lengthBuckets = LengthBuckets.read(indexes);
+            this.dawg = Dawg.read(indexes);
+            this.derivedWordSets = DerivedWordSets.read(this, indexes);
+        }
+        this.frequencies = null;
+        this.bloomFilter = null;
+        this.compiled = indexes != null;
+        this.builtAt = Instant.now();
+        this.buildDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    /*
+     * The same snapshot, sharing all its indexes, with the frequencies and
+     * the filter.
+     */
+    private WordDictionary(WordDictionary dictionary, WordFrequencies frequencies, BloomFilter bloomFilter,
+            long startNanos) {
+        this.packedWords = dictionary.packedWords;
+        this.wordList = new WordRangeList(this, 0, packedWords.size());
+        this.checksum = dictionary.checksum;
+        this.membershipIndex = dictionary.membershipIndex;
+        this.bitmapIndex = dictionary.bitmapIndex;
+        this.lengthBuckets = dictionary.lengthBuckets;
+        this.dawg = dictionary.dawg;
+        this.derivedWordSets = dictionary.derivedWordSets;
+        this.frequencies = frequencies;
+        this.bloomFilter = bloomFilter;
+        this.compiled = dictionary.compiled;
+        this.builtAt = Instant.now();
+        this.buildDuration = dictionary.buildDuration.plusNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param frequencies  The word frequencies, of this dictionary.
+     * @param startNanos   When loading of the frequencies started, from `System.nanoTime()`.
+     * @return  The same snapshot with the frequencies.
+     */
+    WordDictionary withFrequencies(WordFrequencies frequencies, long startNanos) {
+        return new WordDictionary(this, frequencies, bloomFilter, startNanos);
+    }
+
+    /**
+     * Builds the Bloom filter of the words, consulted before the membership
+     * index by {@link #contains(CharSequence)}, counting every lookup.
+     *
+     * @param falsePositiveRate  The target false positive rate, in (0, 1).
+     * @return  The same snapshot with the filter.
+     * @throws IllegalArgumentException  If invalid `falsePositiveRate`.
+     */
+    public WordDictionary withBloomFilter(double falsePositiveRate) {
+        return withBloomFilter(falsePositiveRate, 1);
+    }
+
+    /**
+     * Builds the Bloom filter of the words, consulted before the membership
+     * index by {@link #contains(CharSequence)}.
+     *
+     * @param falsePositiveRate  The target false positive rate, in (0, 1).
+     * @param statsSampling      Counts one in `statsSampling` single lookups,
+     *                           0 to count none (see {@link BloomFilter}).
+     * @return  The same snapshot with the filter.
+     * @throws IllegalArgumentException  If invalid `falsePositiveRate` or `statsSampling`.
+     */
+    public WordDictionary withBloomFilter(double falsePositiveRate, int statsSampling) {
+        long start = System.nanoTime();
+        return new WordDictionary(this, frequencies, BloomFilter.of(packedWords, falsePositiveRate, statsSampling),
+                start);
+    }
+
+    /*
+     * Writes the packed words and the indexes, in the order read.
+     */
+    void write(DictionaryFile.Writer out) {
+        packedWords.write(out);
+        membershipIndex.write(out);
+        bitmapIndex.write(out);
+        lengthBuckets.write(out);
+        dawg.write(out);
+        derivedWordSets.write(out);
+    }
+
+    /**
+     * @return  The normalized words, as read-only view decoding each word
+     *          when read (no copying).
+     */
+    public List<String> getWords() {
+        return wordList;
+    }
+
+    /**
+     * Decodes the word `index` from the packed words.
+     */
+    public String getWord(int index) {
+        return packedWords.get(index);
+    }
+
+    public int size() {
+        return packedWords.size();
+    }
+
+    public PackedWords getPackedWords() {
+        return packedWords;
+    }
+
+    public MembershipIndex getMembershipIndex() {
+        return membershipIndex;
+    }
+
+    /**
+     * @return  The Bloom filter of the words, or null if not built.
+     */
+    public BloomFilter getBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Checks if `word` is in the dictionary, case insensitive: rejected by
+     * the Bloom filter (if built), else looked up in the membership index.
+     *
+     * @param word  The word, null or empty never found.
+     * @return  true if found.
+     */
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    /*
+     * The id of `word`, or -1: through the Bloom filter, if built.
+     */
+    private int indexOf(CharSequence word) {
+        if (bloomFilter == null) {
+            return membershipIndex.indexOf(word);
+        }
+        if (!bloomFilter.mightContain(word)) {
+            bloomFilter.recordLookup(true, false);
+            return -1;
+        }
+        int id = membershipIndex.indexOf(word);
+        bloomFilter.recordLookup(false, id < 0);
+        return id;
+    }
+
+    /**
+     * Checks the words [from, to) of `words`, as of {@link #contains(CharSequence)},
+     * and sets the bit `i` of `bits` for each word `i` found. The counters of
+     * the filter are updated once for all the words (not sampled).
+     *
+     * @see MembershipIndex#lookup(List, int, int, long[])
+     */
+    public void containsAll(List<? extends CharSequence> words, int from, int to, long[] bits) {
+        if (bloomFilter == null) {
+            membershipIndex.lookup(words, from, to, bits);
+            return;
+        }
+        long rejected = 0;
+        long falsePositives = 0;
+        for (int block = from; block < to; block += 64) {
+            int end = Math.min(block + 64, to);
+            long found = 0;
+            for (int ix = block; ix < end; ix += 1) {
+                CharSequence word = words.get(ix);
+                if (!bloomFilter.mightContain(word)) {
+                    rejected += 1;
+                } else if (membershipIndex.indexOf(word) >= 0) {
+                    found |= 1L << (ix - block);
+                } else {
+                    falsePositives += 1;
+                }
+            }
+            bits[block >>> 6] = found;
+        }
+        bloomFilter.record(to - from, rejected, falsePositives);
+    }
+
+    /**
+     * Finds the words beginning with `prefix`, case insensitive.
+     *
+     * @param prefix  The prefix, non empty, of letters 'a' to 'z'.
+     * @return  The matching words, as read-only view (no copying).
+     */
+    public List<String> wordsWithPrefix(CharSequence prefix) {
+        long range = dawg.prefixRange(prefix);
+        int start = Dawg.rangeStart(range);
+        return new WordRangeList(this, start, start + Dawg.rangeCount(range));
+    }
+
+    /**
+     * Finds the words within `maxDistance` edits of `word`, other than `word`
+     * itself, case insensitive: see {@link Dawg#similar(CharSequence, int)}.
+     *
+     * @param word         The word.
+     * @param maxDistance  The maximum edit distance, inclusive.
+     * @return  The words, the closest first, then in dictionary order.
+     */
+    public List<String> similarWords(CharSequence word, int maxDistance) {
+        int[] ids = dawg.similar(word, maxDistance);
+        // mostly a wrong guess, not a word
+        int self = indexOf(word);
+        if (self >= 0 && ids.length > 0 && ids[0] == self) {
+            // the only word at distance 0
+            ids = Arrays.copyOfRange(ids, 1, ids.length);
+        }
+        return new WordIdList(this, ids);
+    }
+
+    /**
+     * Finds the words matching the wildcard `pattern`, case insensitive:
+     * see {@link Dawg#match(CharSequence)}.
+     *
+     * @param pattern  The pattern, of letters, '?' (any one letter) and '*'
+     *                 (any letters).
+     * @return  The matching words, in dictionary order.
+     * @throws IllegalArgumentException  If `pattern` is too long.
+     */
+    public List<String> wordsMatching(CharSequence pattern) {
+        return new WordIdList(this, dawg.match(pattern));
+    }
+
+    /**
+     * Finds the `k` most frequent words beginning with `prefix`, case
+     * insensitive, as of the word frequencies. Without frequencies, or among
+     * words of the same frequency, the words are in dictionary order.
+     *
+     * @param prefix  The prefix, non empty, of letters 'a' to 'z'.
+     * @param k       The maximum number of words.
+     * @return  The words, the most frequent first.
+     */
+    public List<String> topWordsWithPrefix(CharSequence prefix, int k) {
+        long range = dawg.prefixRange(prefix);
+        int start = Dawg.rangeStart(range);
+        int end = start + Dawg.rangeCount(range);
+        if (frequencies == null) {
+            return new WordRangeList(this, start, start + Math.max(0, Math.min(k, end - start)));
+        }
+        return new WordIdList(this, frequencies.top(start, end, k));
+    }
+
+    /**
+     * @return  The word frequencies, or null if none loaded.
+     */
+    public WordFrequencies getFrequencies() {
+        return frequencies;
+    }
+
+    public BitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+
+    /**
+     * Finds the words matching all the given criteria, in dictionary order.
+     *
+     * @see BitmapIndex#search(int, int, int)
+     */
+    public List<String> search(int firstLetter, int lastLetter, int length) {
+        return new WordIdList(this, bitmapIndex.search(firstLetter, lastLetter, length));
+    }
+
+    public LengthBuckets getLengthBuckets() {
+        return lengthBuckets;
+    }
+
+    public Dawg getDawg() {
+        return dawg;
+    }
+
+    /**
+     * Finds the sub words of `word`: the words made of its letters, each
+     * letter used at most as many times as it occurs in `word`, other than
+     * `word` itself. Matching is case insensitive.
+     *
+     * @param word       The word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     * @return  The sub words, in dictionary order.
+     */
+    public List<String> subWords(CharSequence word, int minLength) {
+        return withoutWord(dawg.subWords(word, minLength), word);
+    }
+
+    /**
+     * Finds the sub words of `word`, as {@link #subWords(CharSequence, int)},
+     * walking the automaton in parallel with the tasks of `pool`.
+     *
+     * @param word       The word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     * @param pool       The pool to run the tasks.
+     * @return  The sub words, in dictionary order.
+     */
+    public List<String> subWords(CharSequence word, int minLength, ForkJoinPool pool) {
+        return withoutWord(dawg.subWords(word, minLength, pool), word);
+    }
+
+    /**
+     * Finds the sub words of `word`, as {@link #subWords(CharSequence, int)},
+     * handing each word to `consumer` as soon as found: see
+     * {@link Dawg#subWords(CharSequence, int, int, IntPredicate)}.
+     *
+     * @param word       The word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     * @param consumer   The consumer of the sub words, in dictionary order.
+     *                   Returns false to stop.
+     * @return  false if stopped by `consumer`, true once all found.
+     */
+    public boolean forEachSubWord(CharSequence word, int minLength, Predicate<? super String> consumer) {
+        return forEachSubWordId(word, minLength, 0, id -> consumer.test(packedWords.get(id)));
+    }
+
+    /**
+     * Finds the ids of the sub words of `word`, from the id `fromId`,
+     * handing each id to `consumer` as soon as found: e.g. to resume after
+     * the last id handed.
+     *
+     * @param word       The word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     * @param fromId     The lowest id (inclusive) to hand, 0 for all.
+     * @param consumer   The consumer of the ids, ascending. Returns false
+     *                   to stop.
+     * @return  false if stopped by `consumer`, true once all found.
+     */
+    public boolean forEachSubWordId(CharSequence word, int minLength, int fromId, IntPredicate consumer) {
+        int self = membershipIndex.indexOf(word);
+        return dawg.subWords(word, minLength, fromId, id -> id == self || consumer.test(id));
+    }
+
+    /**
+     * Lists the words of `ids`, other than `word` itself: e.g. the sub words
+     * of `word`, from the ids found by {@link Dawg#subWords(CharSequence, int)}
+     * (possibly for another word of the same letters).
+     *
+     * @param ids   The word ids, ascending. Not modified.
+     * @param word  The word to leave out, case insensitive.
+     * @return  The words, in dictionary order.
+     */
+    public List<String> withoutWord(int[] ids, CharSequence word) {
+        int self = membershipIndex.indexOf(word);
+        if (self >= 0) {
+            int pos = Arrays.binarySearch(ids, self);
+            if (pos >= 0) {
+                int[] others = new int[ids.length - 1];
+                System.arraycopy(ids, 0, others, 0, pos);
+                System.arraycopy(ids, pos + 1, others, pos, others.length - pos);
+                ids = others;
+            }
+        }
+        return new WordIdList(this, ids);
+    }
+
+    public DerivedWordSets getDerivedWordSets() {
+        return derivedWordSets;
+    }
+
+    /**
+     * @return  The CRC-32 of the words, same for the same words.
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * @return  true if read from the compiled dictionary file, false if built.
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    public Duration getBuildDuration() {
+        return buildDuration;
+    }
+
+    /**
+     * Estimates the heap used by this snapshot: the packed words and the
+     * indexes, not counting the buffers mapped outside of the heap.
+     *
+     * @return  The approximate size in bytes.
+     */
+    public long getEstimatedSizeInBytes() {
+        return packedWords.getSizeInBytes() + membershipIndex.getSizeInBytes()
+                + bitmapIndex.getSizeInBytes()
+                + lengthBuckets.getSizeInBytes() + dawg.getSizeInBytes()
+                + (frequencies == null ? 0 : frequencies.getSizeInBytes())
+                + (bloomFilter == null ? 0 : bloomFilter.getSizeInBytes());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("size=[").append(size()).append(']');
+        sb.append(", builtAt=[").append(builtAt).append(']');
+        sb.append(", compiled=[").append(compiled).append(']');
+        sb.append(", buildDuration=[").append(buildDuration.toMillis()).append("ms]");
+        sb.append(", estimatedSize=[").append(getEstimatedSizeInBytes()).append(']');
+        sb.append(", dawg={").append(dawg).append('}');
+        if (frequencies != null) {
+            sb.append(", frequencies={").append(frequencies).append('}');
+        }
+        if (bloomFilter != null) {
+            sb.append(", bloomFilter={").append(bloomFilter).append('}');
+        }
+        return sb.toString();
+    }
+
+}
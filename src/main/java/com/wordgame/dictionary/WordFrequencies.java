@@ -0,0 +1,179 @@
+package com.wordgame.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The frequency (weight) of each word of a dictionary, from a side file of
+ * "word count" lines, e.g. counted in a text corpus. The words not listed
+ * weigh 0.
+ *
+ * To find the most frequent words of a range (e.g. of a prefix) without
+ * sorting the range, the words of maximum weight are kept in a segment tree
+ * over the word ids: each node is the heaviest word of its range. The top K
+ * of a range are then found by splitting it at its heaviest word, and
+ * taking the heaviest of the parts next, K times.
+ */
+public final class WordFrequencies {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WordFrequencies.class);
+
+    private final long[] weights;
+
+    /*
+     * Segment tree (bottom-up, leaves at [size, 2 * size)): the word id of
+     * maximum weight of each node, the lesser id on ties.
+     */
+    private final int[] tree;
+
+    private final int listed;
+
+    WordFrequencies(long[] weights, int listed) {
+        this.weights = weights;
+        this.listed = listed;
+        int size = weights.length;
+        this.tree = new int[2 * size];
+        for (int ix = 0; ix < size; ix += 1) {
+            tree[size + ix] = ix;
+        }
+        for (int node = size - 1; node > 0; node -= 1) {
+            tree[node] = heavier(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Reads the frequencies of the words of `dictionary` from `path`: a line
+     * per word, the word and its count separated by white space (e.g. tab).
+     * Blank lines, lines beginning with '#', and words not in the
+     * dictionary are skipped. A word listed twice weighs the sum.
+     *
+     * @param path        The frequency file, UTF-8.
+     * @param dictionary  The dictionary of the words.
+     * @return  The frequencies.
+     * @throws IOException  If failed to read the file.
+     */
+    public static WordFrequencies load(Path path, WordDictionary dictionary) throws IOException {
+        long[] weights = new long[dictionary.size()];
+        int listed = 0;
+        int invalid = 0;
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                int id = fields.length == 2 ? dictionary.getMembershipIndex().indexOf(fields[0].toLowerCase(Locale.ROOT)) : -1;
+                if (id < 0) {
+                    continue;
+                }
+                try {
+                    long count = Long.parseLong(fields[1]);
+                    if (count < 0) {
+                        throw new NumberFormatException("negative");
+                    }
+                    if (weights[id] == 0 && count > 0) {
+                        listed += 1;
+                    }
+                    weights[id] += count;
+                } catch (NumberFormatException e) {
+                    invalid += 1;
+                }
+            }
+        }
+        if (invalid > 0) {
+            LOG.warn("skipped {} lines of invalid count in {}", invalid, path);
+        }
+        return new WordFrequencies(weights, listed);
+    }
+
+    /**
+     * @return  The weight of the word `id`, 0 if not listed.
+     */
+    public long getWeight(int id) {
+        return weights[id];
+    }
+
+    /**
+     * @return  The number of words of positive weight.
+     */
+    public int getListedCount() {
+        return listed;
+    }
+
+    /**
+     * Finds the `k` heaviest words of the ids [from, to), in descending
+     * weight, then ascending id (dictionary order) on ties. Costs
+     * O(k log(k) log(size)), whatever the size of the range.
+     *
+     * @param from  The first word id, inclusive.
+     * @param to    The last word id, exclusive.
+     * @param k     The maximum number of words.
+     * @return  The word ids.
+     */
+    public int[] top(int from, int to, int k) {
+        int count = Math.max(0, Math.min(k, to - from));
+        int[] ids = new int[count];
+        if (count == 0) {
+            return ids;
+        }
+        // the candidate ranges, by their heaviest word: {id, from, to}
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(2 * count, (a, b) -> heavier(a[0], b[0]) == a[0] ? -1 : 1);
+        ranges.add(new int[] { argMax(from, to), from, to });
+        for (int ix = 0; ix < count; ix += 1) {
+            int[] range = ranges.poll();
+            ids[ix] = range[0];
+            if (range[1] < range[0]) {
+                ranges.add(new int[] { argMax(range[1], range[0]), range[1], range[0] });
+            }
+            if (range[0] + 1 < range[2]) {
+                ranges.add(new int[] { argMax(range[0] + 1, range[2]), range[0] + 1, range[2] });
+            }
+        }
+        return ids;
+    }
+
+    /*
+     * The heaviest word of the ids [from, to), not empty.
+     */
+    private int argMax(int from, int to) {
+        int size = weights.length;
+        int best = from;
+        for (int lo = from + size, hi = to + size; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                best = heavier(best, tree[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                best = heavier(best, tree[--hi]);
+            }
+        }
+        return best;
+    }
+
+    private int heavier(int a, int b) {
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    public long getSizeInBytes() {
+        return 8L * weights.length + 4L * tree.length;
+    }
+
+    @Override
+    public String toString() {
+        return "listed=[" + listed + "], max=[" + (weights.length == 0 ? 0 : weights[argMax(0, weights.length)])
+                + "], size=[" + getSizeInBytes() + ']';
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.wordgame.dictionary;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of words, as a view over the ids of the words in the
+ * dictionary.
+ */
+public final class WordIdList extends AbstractList<String> implements RandomAccess {
+
+    private final WordDictionary dictionary;
+
+    private final int[] ids;
+
+    WordIdList(WordDictionary dictionary, int[] ids) {
+        this.dictionary = dictionary;
+        this.ids = ids;
+    }
+
+    @Override
+    public String get(int index) {
+        return dictionary.getWord(ids[index]);
+    }
+
+    /**
+     * @return  The dictionary id of the word at `index`.
+     */
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+}
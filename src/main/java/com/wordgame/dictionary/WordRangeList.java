@@ -0,0 +1,82 @@
+package com.wordgame.dictionary;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of words, as a view over a range of word ids `[from, to)`
+ * of the dictionary: e.g. all the words, or the words of a prefix.
+ *
+ * Nothing is copied; each word is decoded from the packed words when read.
+ */
+public final class WordRangeList extends AbstractList<String> implements RandomAccess {
+
+    private final WordDictionary dictionary;
+
+    private final int from;
+
+    private final int to;
+
+    WordRangeList(WordDictionary dictionary, int from, int to) {
+        this.dictionary = dictionary;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= to - from) {
+            throw new IndexOutOfBoundsException("index=[" + index + "], size=[" + (to - from) + ']');
+        }
+        return dictionary.getWord(from + index);
+    }
+
+    /**
+     * @return  The dictionary id of the word at `index`.
+     */
+    public int getId(int index) {
+        return from + index;
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public List<String> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > to - from || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("from=[" + fromIndex + "], to=[" + toIndex + "], size=[" + (to - from) + ']');
+        }
+        return new WordRangeList(dictionary, from + fromIndex, from + toIndex);
+    }
+
+    /**
+     * Finds the word through the membership index, instead of scanning.
+     */
+    @Override
+    public int indexOf(Object obj) {
+        if (!(obj instanceof String)) {
+            return -1;
+        }
+        String word = (String) obj;
+        int id = dictionary.getMembershipIndex().indexOf(word);
+        if (id < from || id >= to || !dictionary.getPackedWords().contentEquals(id, word)) {
+            return -1;
+        }
+        return id - from;
+    }
+
+    @Override
+    public int lastIndexOf(Object obj) {
+        // words are unique
+        return indexOf(obj);
+    }
+
+    @Override
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+}
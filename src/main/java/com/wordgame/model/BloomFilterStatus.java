@@ -0,0 +1,171 @@
+package com.wordgame.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.wordgame.dictionary.BloomFilter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class BloomFilterStatus {
+
+    @Schema(
+            description = "true if the filter is built.",
+            example = "true",
+            requiredMode = RequiredMode.AUTO)
+    private boolean enabled;
+
+    @Schema(
+            description = "The target false positive rate.",
+            example = "0.01",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "false_positive_rate")
+    private double falsePositiveRate;
+
+    @Schema(
+            description = "The number of bits set per word.",
+            example = "7",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "hash_count")
+    private int hashCount;
+
+    @Schema(
+            description = "The size of the filter, in bytes.",
+            example = "92672",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "size_bytes")
+    private long sizeInBytes;
+
+    @Schema(
+            description = "One in how many single lookups is counted, 0 if none: the counts below are then estimates.",
+            example = "64",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "stats_sampling")
+    private int statsSampling;
+
+    @Schema(
+            description = "The number of words looked up.",
+            example = "4096",
+            requiredMode = RequiredMode.AUTO)
+    private long queries;
+
+    @Schema(
+            description = "The number of words not found by the filter, without looking up the index.",
+            example = "3072",
+            requiredMode = RequiredMode.AUTO)
+    private long rejected;
+
+    @Schema(
+            description = "The number of words found by the filter, but not by the index.",
+            example = "31",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "false_positives")
+    private long falsePositives;
+
+    @Schema(
+            description = "Ratio of false positives to the words not in the dictionary, 0 if none.",
+            example = "0.01",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "observed_false_positive_rate")
+    private double observedFalsePositiveRate;
+
+    public static BloomFilterStatus of(BloomFilter filter) {
+        BloomFilterStatus status = new BloomFilterStatus();
+        if (filter != null) {
+            status.setEnabled(true);
+            status.setFalsePositiveRate(filter.getFalsePositiveRate());
+            status.setHashCount(filter.getHashCount());
+            status.setSizeInBytes(filter.getSizeInBytes());
+            status.setStatsSampling(filter.getStatsSampling());
+            status.setQueries(filter.getQueries());
+            status.setRejected(filter.getRejected());
+            status.setFalsePositives(filter.getFalsePositives());
+            long negatives = status.getRejected() + status.getFalsePositives();
+            status.setObservedFalsePositiveRate(negatives == 0 ? 0.0 : (double) status.getFalsePositives() / negatives);
+        }
+        return status;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public void setHashCount(int hashCount) {
+        this.hashCount = hashCount;
+    }
+
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public void setSizeInBytes(long sizeInBytes) {
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    public int getStatsSampling() {
+        return statsSampling;
+    }
+
+    public void setStatsSampling(int statsSampling) {
+        this.statsSampling = statsSampling;
+    }
+
+    public long getQueries() {
+        return queries;
+    }
+
+    public void setQueries(long queries) {
+        this.queries = queries;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getFalsePositives() {
+        return falsePositives;
+    }
+
+    public void setFalsePositives(long falsePositives) {
+        this.falsePositives = falsePositives;
+    }
+
+    public double getObservedFalsePositiveRate() {
+        return observedFalsePositiveRate;
+    }
+
+    public void setObservedFalsePositiveRate(double observedFalsePositiveRate) {
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+    }
+
+    @Override
+    public String toString() {
+        return "enabled=[" + enabled + "], falsePositiveRate=[" + falsePositiveRate + "], hashCount=[" + hashCount
+                + "], sizeInBytes=[" + sizeInBytes + "], statsSampling=[" + statsSampling + "], queries=[" + queries + "], rejected=[" + rejected
+                + "], falsePositives=[" + falsePositives + "], observedFalsePositiveRate=["
+                + observedFalsePositiveRate + ']';
+    }
+
+}
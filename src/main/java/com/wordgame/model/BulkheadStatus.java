@@ -0,0 +1,161 @@
+package com.wordgame.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.wordgame.core.Bulkhead;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class BulkheadStatus {
+
+    @Schema(
+            description = "The name of the pool, of its threads.",
+            example = "engine-bulkhead",
+            requiredMode = RequiredMode.AUTO)
+    private String name;
+
+    @Schema(
+            description = "The threads running the tasks.",
+            example = "4",
+            requiredMode = RequiredMode.AUTO)
+    private int threads;
+
+    @Schema(
+            description = "The number of tasks running.",
+            example = "4",
+            requiredMode = RequiredMode.AUTO)
+    private int active;
+
+    @Schema(
+            description = "The number of tasks waiting for a thread.",
+            example = "12",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "queue_depth")
+    private int queueDepth;
+
+    @Schema(
+            description = "The tasks waiting for a thread, at most. Then, the requests are rejected (503).",
+            example = "64",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "queue_capacity")
+    private int queueCapacity;
+
+    @Schema(
+            description = "The number of tasks run.",
+            example = "4096",
+            requiredMode = RequiredMode.AUTO)
+    private long completed;
+
+    @Schema(
+            description = "The number of tasks rejected, the queue being full.",
+            example = "3",
+            requiredMode = RequiredMode.AUTO)
+    private long rejected;
+
+    @Schema(
+            description = "The time of the tasks waiting in the queue.",
+            requiredMode = RequiredMode.AUTO)
+    private LatencyStatus wait;
+
+    @Schema(
+            description = "The time of the tasks running.",
+            requiredMode = RequiredMode.AUTO)
+    private LatencyStatus execution;
+
+    public static BulkheadStatus of(Bulkhead bulkhead) {
+        BulkheadStatus status = new BulkheadStatus();
+        status.setName(bulkhead.getName());
+        status.setThreads(bulkhead.getThreads());
+        status.setActive(bulkhead.getActiveCount());
+        status.setQueueDepth(bulkhead.getQueueDepth());
+        status.setQueueCapacity(bulkhead.getQueueCapacity());
+        status.setCompleted(bulkhead.getCompletedCount());
+        status.setRejected(bulkhead.getRejectedCount());
+        status.setWait(LatencyStatus.of(bulkhead.getWaitLatency()));
+        status.setExecution(LatencyStatus.of(bulkhead.getExecutionLatency()));
+        return status;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public LatencyStatus getWait() {
+        return wait;
+    }
+
+    public void setWait(LatencyStatus wait) {
+        this.wait = wait;
+    }
+
+    public LatencyStatus getExecution() {
+        return execution;
+    }
+
+    public void setExecution(LatencyStatus execution) {
+        this.execution = execution;
+    }
+
+    @Override
+    public String toString() {
+        return "name=[" + name + "], threads=[" + threads + "], active=[" + active + "], queueDepth=[" + queueDepth
+                + "], queueCapacity=[" + queueCapacity + "], completed=[" + completed + "], rejected=[" + rejected
+                + "], wait={" + wait + "}, execution={" + execution + '}';
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.wordgame.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.wordgame.core.SegmentedLruCache;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class CacheStatus {
+
+    @Schema(
+            description = "true if the cache is enabled.",
+            example = "true",
+            requiredMode = RequiredMode.AUTO)
+    private boolean enabled;
+
+    @Schema(
+            description = "The number of entries cached.",
+            example = "812",
+            requiredMode = RequiredMode.AUTO)
+    private int size;
+
+    @Schema(
+            description = "The maximum number of entries cached.",
+            example = "10000",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "max_size")
+    private int maxSize;
+
+    @Schema(
+            description = "The number of reads found in cache.",
+            example = "4096",
+            requiredMode = RequiredMode.AUTO)
+    private long hits;
+
+    @Schema(
+            description = "The number of reads not found in cache, then computed.",
+            example = "1024",
+            requiredMode = RequiredMode.AUTO)
+    private long misses;
+
+    @Schema(
+            description = "The number of entries evicted, the cache being full.",
+            example = "0",
+            requiredMode = RequiredMode.AUTO)
+    private long evictions;
+
+    @Schema(
+            description = "Ratio of hits to reads, 0 if no reads.",
+            example = "0.8",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "hit_rate")
+    private double hitRate;
+
+    public static CacheStatus of(SegmentedLruCache<?, ?> cache) {
+        CacheStatus status = new CacheStatus();
+        if (cache != null) {
+            status.setEnabled(true);
+            status.setSize(cache.size());
+            status.setMaxSize(cache.getMaxSize());
+            status.setHits(cache.getHits());
+            status.setMisses(cache.getMisses());
+            status.setEvictions(cache.getEvictions());
+            long reads = status.getHits() + status.getMisses();
+            status.setHitRate(reads == 0 ? 0.0 : (double) status.getHits() / reads);
+        }
+        return status;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    @Override
+    public String toString() {
+        return "enabled=[" + enabled + "], size=[" + size + "], maxSize=[" + maxSize + "], hits=[" + hits
+                + "], misses=[" + misses + "], evictions=[" + evictions + "], hitRate=[" + hitRate + ']';
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.wordgame.model;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.wordgame.core.DailyPuzzle;
+
+/**
+ * The progress of a player on a daily puzzle: only the words guessed, the
+ * puzzle itself being shared by all the players.
+ */
+public class DailyGuessModel {
+
+    private String id;
+
+    private Date createdAt;
+
+    private Date modifiedAt;
+
+    private DailyPuzzle puzzle;
+
+    private final Set<String> guessedWords = ConcurrentHashMap.newKeySet();
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getModifiedAt() {
+        return modifiedAt;
+    }
+
+    public void setModifiedAt(Date modifiedAt) {
+        this.modifiedAt = modifiedAt;
+    }
+
+    public DailyPuzzle getPuzzle() {
+        return puzzle;
+    }
+
+    public void setPuzzle(DailyPuzzle puzzle) {
+        this.puzzle = puzzle;
+    }
+
+    public Set<String> getGuessedWords() {
+        return guessedWords;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("id=[").append(id).append(']');
+        }
+        if (createdAt != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("createdAt=[").append(createdAt.toInstant()).append(']');
+        }
+        if (modifiedAt != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("modifiedAt=[").append(modifiedAt.toInstant()).append(']');
+        }
+        if (puzzle != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("puzzle=[").append(puzzle).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("guessedWords.size=[").append(guessedWords.size()).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.wordgame.model;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.wordgame.core.DictionarySnapshot;
+import com.wordgame.dictionary.WordDictionary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class DictionaryStatus {
+
+    @Schema(
+            description = "Version of the dictionary snapshot in use: 1 when loaded at startup, incremented on each rebuild.",
+            example = "2",
+            requiredMode = RequiredMode.AUTO)
+    private long version;
+
+    @Schema(
+            description = "The number of words in the dictionary snapshot.",
+            example = "64662",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "word_count")
+    private int wordCount;
+
+    @Schema(
+            description = "Time taken to load and index the words, in milliseconds.",
+            example = "735",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "build_duration_ms")
+    private long buildDurationMillis;
+
+    @Schema(
+            description = "When the dictionary snapshot was built.",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "built_at")
+    private Date builtAt;
+
+    @Schema(
+            description = "true if read from the compiled dictionary file (\"words.jdict\"), false if built from the word list.",
+            example = "false",
+            requiredMode = RequiredMode.AUTO)
+    private boolean compiled;
+
+    @Schema(
+            description = "true while a rebuild is running. The current snapshot is in use until the rebuild completes.",
+            example = "false",
+            requiredMode = RequiredMode.AUTO)
+    private boolean rebuilding;
+
+    public static DictionaryStatus of(DictionarySnapshot snapshot, boolean rebuilding) {
+        WordDictionary dictionary = snapshot.getDictionary();
+        DictionaryStatus status = new DictionaryStatus();
+        status.setVersion(snapshot.getVersion());
+        status.setWordCount(dictionary.size());
+        status.setBuildDurationMillis(dictionary.getBuildDuration().toMillis());
+        status.setBuiltAt(Date.from(dictionary.getBuiltAt()));
+        status.setCompiled(dictionary.isCompiled());
+        status.setRebuilding(rebuilding);
+        return status;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public void setWordCount(int wordCount) {
+        this.wordCount = wordCount;
+    }
+
+    public long getBuildDurationMillis() {
+        return buildDurationMillis;
+    }
+
+    public void setBuildDurationMillis(long buildDurationMillis) {
+        this.buildDurationMillis = buildDurationMillis;
+    }
+
+    public Date getBuiltAt() {
+        return builtAt;
+    }
+
+    public void setBuiltAt(Date builtAt) {
+        this.builtAt = builtAt;
+    }
+
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    public void setRebuilding(boolean rebuilding) {
+        this.rebuilding = rebuilding;
+    }
+
+    @Override
+    public String toString() {
+        return "version=[" + version + "], wordCount=[" + wordCount + "], buildDuration=[" + buildDurationMillis
+                + "ms], builtAt=[" + builtAt + "], compiled=[" + compiled + "], rebuilding=[" + rebuilding + ']';
+    }
+
+}
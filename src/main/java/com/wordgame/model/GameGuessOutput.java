@@ -29,6 +29,12 @@ public class GameGuessOutput {
             requiredMode = RequiredMode.AUTO)
     private String id;
 
+    @Schema(
+            description = "The date (UTC) of the daily puzzle, only for daily games.",
+            example = "2024-05-01",
+            requiredMode = RequiredMode.AUTO)
+    private String date;
+
     @Schema(
             description = "Original word in game.",
             example = "tomato",
@@ -82,6 +88,20 @@ public class GameGuessOutput {
     @JsonProperty(value = "guessed_words")
     private List<String> guessedWords;
 
+    @Schema(
+            description = "On incorrect guess, the words of the game (not guessed yet) close to `guess_word`, the closest first.",
+            example = "[\"rank\"]",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "suggestions")
+    private List<String> suggestions;
+
+    @Schema(
+            description = "On incorrect guess, the other words of the dictionary close to `guess_word`, the closest first.",
+            example = "[\"rink\"]",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "dictionary_suggestions")
+    private List<String> dictionarySuggestions;
+
     public String getId() {
         return id;
     }
@@ -90,6 +110,14 @@ public class GameGuessOutput {
         this.id = id;
     }
 
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
     public String getResult() {
         return result;
     }
@@ -149,6 +177,22 @@ public class GameGuessOutput {
         this.guessedWords = guessedWords;
     }
 
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(List<String> suggestions) {
+        this.suggestions = suggestions;
+    }
+
+    public List<String> getDictionarySuggestions() {
+        return dictionarySuggestions;
+    }
+
+    public void setDictionarySuggestions(List<String> dictionarySuggestions) {
+        this.dictionarySuggestions = dictionarySuggestions;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -158,6 +202,9 @@ public class GameGuessOutput {
         if (result != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("result=[").append(result).append(']');
         }
+        if (date != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("date=[").append(date).append(']');
+        }
         if (originalWord != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("originalWord=[").append(originalWord).append(']');
         }
@@ -172,6 +219,12 @@ public class GameGuessOutput {
         if (guessedWords != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("guessedWords.size=[").append(guessedWords.size()).append(']');
         }
+        if (suggestions != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("suggestions=").append(suggestions);
+        }
+        if (dictionarySuggestions != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("dictionarySuggestions=").append(dictionarySuggestions);
+        }
         return sb.toString();
     }
 
@@ -0,0 +1,101 @@
+package com.wordgame.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.wordgame.core.GameStatePool;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class GamePoolStatus {
+
+    @Schema(
+            description = "The ready games kept, per (length, minLength). 0 if the pool is disabled.",
+            example = "16",
+            requiredMode = RequiredMode.AUTO)
+    private int size;
+
+    @Schema(
+            description = "The number of ready games, of all (length, minLength).",
+            example = "16",
+            requiredMode = RequiredMode.AUTO)
+    private int ready;
+
+    @Schema(
+            description = "The number of games taken from the pool.",
+            example = "120",
+            requiredMode = RequiredMode.AUTO)
+    private long taken;
+
+    @Schema(
+            description = "The number of games created while the client waits, the pool being empty.",
+            example = "2",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "created_inline")
+    private long createdInline;
+
+    @Schema(
+            description = "The number of ready games dropped, created from a previous dictionary.",
+            example = "16",
+            requiredMode = RequiredMode.AUTO)
+    private long dropped;
+
+    public static GamePoolStatus of(GameStatePool pool) {
+        GamePoolStatus status = new GamePoolStatus();
+        status.setSize(pool.getSize());
+        status.setReady(pool.getReadyCount());
+        status.setTaken(pool.getTakenCount());
+        status.setCreatedInline(pool.getCreatedInlineCount());
+        status.setDropped(pool.getDroppedCount());
+        return status;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getReady() {
+        return ready;
+    }
+
+    public void setReady(int ready) {
+        this.ready = ready;
+    }
+
+    public long getTaken() {
+        return taken;
+    }
+
+    public void setTaken(long taken) {
+        this.taken = taken;
+    }
+
+    public long getCreatedInline() {
+        return createdInline;
+    }
+
+    public void setCreatedInline(long createdInline) {
+        this.createdInline = createdInline;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+
+    @Override
+    public String toString() {
+        return "size=[" + size + "], ready=[" + ready + "], taken=[" + taken + "], createdInline=[" + createdInline
+                + "], dropped=[" + dropped + ']';
+    }
+
+}
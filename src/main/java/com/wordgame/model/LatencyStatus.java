@@ -0,0 +1,104 @@
+package com.wordgame.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import com.wordgame.core.LatencyRecorder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class LatencyStatus {
+
+    @Schema(
+            description = "The number of calls recorded.",
+            example = "4096",
+            requiredMode = RequiredMode.AUTO)
+    private long count;
+
+    @Schema(
+            description = "The mean latency, in microseconds.",
+            example = "182.5",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "mean_us")
+    private double meanMicros;
+
+    @Schema(
+            description = "The median latency (upper bound, power of 2), in microseconds.",
+            example = "256",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "p50_us")
+    private long p50Micros;
+
+    @Schema(
+            description = "The 99th percentile latency (upper bound, power of 2), in microseconds.",
+            example = "512",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "p99_us")
+    private long p99Micros;
+
+    @Schema(
+            description = "The maximum latency, in microseconds.",
+            example = "1830.2",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "max_us")
+    private double maxMicros;
+
+    public static LatencyStatus of(LatencyRecorder recorder) {
+        LatencyStatus status = new LatencyStatus();
+        status.setCount(recorder.getCount());
+        status.setMeanMicros(recorder.getMeanMicros());
+        status.setP50Micros(recorder.getPercentileMicros(0.5));
+        status.setP99Micros(recorder.getPercentileMicros(0.99));
+        status.setMaxMicros(recorder.getMaxMicros());
+        return status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    public void setMeanMicros(double meanMicros) {
+        this.meanMicros = meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public void setP50Micros(long p50Micros) {
+        this.p50Micros = p50Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public void setP99Micros(long p99Micros) {
+        this.p99Micros = p99Micros;
+    }
+
+    public double getMaxMicros() {
+        return maxMicros;
+    }
+
+    public void setMaxMicros(double maxMicros) {
+        this.maxMicros = maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "count=[" + count + "], meanMicros=[" + meanMicros + "], p50Micros=[" + p50Micros + "], p99Micros=["
+                + p99Micros + "], maxMicros=[" + maxMicros + ']';
+    }
+
+}
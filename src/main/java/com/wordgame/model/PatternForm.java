@@ -0,0 +1,54 @@
+package com.wordgame.model;
+
+import java.util.Collection;
+
+public class PatternForm {
+
+    private String pattern;
+
+    private Collection<String> words;
+
+    private int total;
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public Collection<String> getWords() {
+        return words;
+    }
+
+    public void setWords(Collection<String> words) {
+        this.words = words;
+    }
+
+    /**
+     * @return  The number of all the matching words, the `words` being the
+     *          first of them.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (pattern != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("pattern=[").append(pattern).append(']');
+        }
+        if (words != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("words.size=[").append(words.size()).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("total=[").append(total).append(']');
+        return sb.toString();
+    }
+
+}
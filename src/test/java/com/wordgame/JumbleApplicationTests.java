@@ -2,14 +2,31 @@ package com.wordgame;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 @SpringBootTest
 class JumbleApplicationTests {
 
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    AsyncTaskExecutor applicationTaskExecutor;
+
     @Test
     void contextLoads() {
         Assertions.assertTrue(true);
     }
 
+    @Test
+    void mvcAsyncOnApplicationTaskExecutor() {
+        Assertions.assertSame(applicationTaskExecutor, ReflectionTestUtils.getField(handlerAdapter, "taskExecutor"));
+    }
+
 }
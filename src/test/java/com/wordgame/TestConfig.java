@@ -1,16 +1,14 @@
 package com.wordgame;
 
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.context.annotation.Bean;
-
-import com.wordgame.core.JumbleEngine;
+import org.springframework.context.annotation.Import;
 
+/**
+ * The application beans, for the sliced tests (e.g. `@WebMvcTest`), which
+ * do not scan {@link AppConfig}.
+ */
 @TestConfiguration
+@Import(AppConfig.class)
 public class TestConfig {
 
-    @Bean
-    public JumbleEngine jumbleEngine() {
-        return new JumbleEngine();
-    }
-
 }
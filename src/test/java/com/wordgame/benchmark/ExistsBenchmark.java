@@ -0,0 +1,80 @@
+package com.wordgame.benchmark;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wordgame.dictionary.DictionaryLoader;
+import com.wordgame.dictionary.MembershipIndex;
+import com.wordgame.dictionary.WordDictionary;
+
+/**
+ * Compares the membership check of {@link MembershipIndex} against the
+ * previous linear scan of the word list (`List#contains`), and the lookup
+ * of the dictionary with and without the Bloom filter: the filter rejects
+ * most misses early ("fourtitude"), but is one more probe on each hit.
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark=ExistsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExistsBenchmark {
+
+    @Param({ "Panda", "kangaroo", "zygotes", "fourtitude" })
+    public String word;
+
+    private List<String> words;
+
+    private MembershipIndex index;
+
+    private WordDictionary dictionary;
+
+    private WordDictionary filtered;
+
+    @Setup
+    public void setUp() {
+        WordDictionary dictionary = DictionaryLoader.load(Paths.get("src/main/resources/words.txt"));
+        this.index = dictionary.getMembershipIndex();
+        this.words = new ArrayList<>(dictionary.getWords());
+        this.dictionary = dictionary;
+        this.filtered = dictionary.withBloomFilter(0.01, 64);
+    }
+
+    @Benchmark
+    public boolean listContains() {
+        return words.contains(word.toLowerCase());
+    }
+
+    @Benchmark
+    public boolean membershipIndex() {
+        return index.contains(word);
+    }
+
+    @Benchmark
+    public boolean dictionaryContains() {
+        return dictionary.contains(word);
+    }
+
+    @Benchmark
+    public boolean bloomFilteredContains() {
+        return filtered.contains(word);
+    }
+
+}
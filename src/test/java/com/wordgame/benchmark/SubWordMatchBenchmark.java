@@ -0,0 +1,96 @@
+package com.wordgame.benchmark;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wordgame.dictionary.DictionaryLoader;
+import com.wordgame.dictionary.LetterHistogram;
+import com.wordgame.dictionary.WordDictionary;
+
+/**
+ * Compares the sub word check over the whole dictionary: the previous
+ * `HashMap<Character, Integer>` letter frequencies against the packed
+ * {@link LetterHistogram}.
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark=SubWordMatchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubWordMatchBenchmark {
+
+    @Param({ "yellow", "elephant", "quizzically" })
+    public String word;
+
+    private List<String> words;
+
+    @Setup
+    public void setUp() {
+        WordDictionary dictionary = DictionaryLoader.load(Paths.get("src/main/resources/words.txt"));
+        // decoded once, so only the matching is measured
+        this.words = new ArrayList<>(dictionary.getWords());
+    }
+
+    @Benchmark
+    public int hashMapFrequency() {
+        int count = 0;
+        for (String candidate : words) {
+            if (isCharacterMatchWithFrequency(word, candidate)) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int packedHistogram() {
+        int count = 0;
+        for (String candidate : words) {
+            if (LetterHistogram.isSubWord(word, candidate)) {
+                count += 1;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * The previous implementation (JumbleEngine), as baseline.
+     */
+    private static boolean isCharacterMatchWithFrequency(String word, String candidate) {
+        HashMap<Character, Integer> wordCharCount = getCharFrequency(word);
+        for (char c : candidate.toCharArray()) {
+            if (!wordCharCount.containsKey(c) || wordCharCount.get(c) == 0) {
+                return false;
+            }
+            wordCharCount.put(c, wordCharCount.get(c) - 1);
+        }
+        return true;
+    }
+
+    private static HashMap<Character, Integer> getCharFrequency(String word) {
+        HashMap<Character, Integer> charCount = new HashMap<>();
+        for (char c : word.toCharArray()) {
+            charCount.put(c, charCount.getOrDefault(c, 0) + 1);
+        }
+        return charCount;
+    }
+
+}
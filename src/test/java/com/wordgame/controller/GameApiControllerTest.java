@@ -3,6 +3,7 @@ package com.wordgame.controller;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.Test;
@@ -16,12 +17,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wordgame.TestConfig;
 import com.wordgame.core.JumbleEngine;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
 
 import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 @WebMvcTest(GameApiController.class)
 @Import(TestConfig.class)
@@ -67,7 +69,7 @@ class GameApiControllerTest {
          * g) `remainingWords` > 0 and same as `totalWords`
          * h) `guessedWords` is empty list
          */
-        mvc.perform(get("/api/game/new"))
+        newGame()
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result").value("Created new game."))
                 .andExpect(jsonPath("$.id").isNotEmpty())
@@ -151,7 +153,7 @@ class GameApiControllerTest {
          */
 
         //has valid game ID from previously created game
-        MvcResult result = mvc.perform(get("/api/game/new"))
+        MvcResult result = newGame()
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result").value("Created new game."))
                 .andExpect(jsonPath("$.id").isNotEmpty())
@@ -205,7 +207,7 @@ class GameApiControllerTest {
          * i) `guessedWords` is empty list (because this is first attempt)
          */
         //has valid game ID from previously created game
-        MvcResult result = mvc.perform(get("/api/game/new"))
+        MvcResult result = newGame()
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result").value("Created new game."))
                 .andExpect(jsonPath("$.id").isNotEmpty())
@@ -261,7 +263,7 @@ class GameApiControllerTest {
          * i) `guessedWords` is not empty list
          * j) `guessWords` contains input `guessWord`
          */
-        MvcResult result = mvc.perform(get("/api/game/new"))
+        MvcResult result = newGame()
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result").value("Created new game."))
                 .andExpect(jsonPath("$.id").isNotEmpty())
@@ -278,20 +280,22 @@ class GameApiControllerTest {
         int remainingWords = jsonNode.get("remaining_words").asInt();
         int totalWords = jsonNode.get("total_words").asInt();
         String originalWord = jsonNode.get("original_word").asText();
+        // the game word is picked at random: a sub word of its own
+        String word = jumbleEngine.generateSubWords(originalWord, 3).iterator().next();
 
         mvc.perform(post("/api/game/guess")
                         .contentType("application/json")
-                        .content("{ \"id\": \"" + id + "\",\"word\": \"bus\" }"))
+                        .content("{ \"id\": \"" + id + "\",\"word\": \"" + word + "\" }"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(id))
                 .andExpect(jsonPath("$.scramble_word").isNotEmpty())
-                .andExpect(jsonPath("$.guess_word").value("bus"))
+                .andExpect(jsonPath("$.guess_word").value(word))
                 .andExpect(jsonPath("$.result").value("Guessed correctly."))
                 .andExpect(jsonPath("$.remaining_words").value(remainingWords - 1))
                 .andExpect(jsonPath("$.total_words").value(totalWords))
                 .andExpect(jsonPath("$.original_word").value(originalWord))
                 .andExpect(jsonPath("$.guessed_words").isArray())
-                .andExpect(jsonPath("$.guessed_words", hasItem("bus")));
+                .andExpect(jsonPath("$.guessed_words", hasItem(word)));
     }
 
     @Test
@@ -319,11 +323,7 @@ class GameApiControllerTest {
          * i) `guessedWords` is not empty list
          * j) `guessWords` contains input `guessWord`
          */
-        ArrayList<String> validSubWords = new ArrayList<>(
-                Arrays.asList("baas", "cabs", "cubs", "scuba", "abs", "baa", "bus", "cab", "cub", "sac", "sub")
-        );
-        //scab as last word
-        MvcResult result = mvc.perform(get("/api/game/new"))
+        MvcResult result = newGame()
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result").value("Created new game."))
                 .andExpect(jsonPath("$.id").isNotEmpty())
@@ -340,8 +340,10 @@ class GameApiControllerTest {
         int remainingWords = jsonNode.get("remaining_words").asInt();
         int totalWords = jsonNode.get("total_words").asInt();
         String originalWord = jsonNode.get("original_word").asText();
+        // the game word is picked at random: its own sub words, the last one guessed last
+        List<String> validSubWords = new ArrayList<>(jumbleEngine.generateSubWords(originalWord, 3));
+        String lastWord = validSubWords.remove(validSubWords.size() - 1);
 
-        int remainingWordsCount = 1;
         for (String word : validSubWords) {
             result = mvc.perform(post("/api/game/guess")
                             .contentType("application/json")
@@ -361,9 +363,8 @@ class GameApiControllerTest {
             remainingWords = jsonNode.get("remaining_words").asInt();
             totalWords = jsonNode.get("total_words").asInt();
             originalWord = jsonNode.get("original_word").asText();
-            remainingWordsCount++;
         }
-        String word = "scab";
+        String word = lastWord;
         mvc.perform(post("/api/game/guess")
                         .contentType("application/json")
                         .content("{ \"id\": \"" + id + "\",\"word\": \"" + word + "\" }"))
@@ -377,4 +378,16 @@ class GameApiControllerTest {
                 .andExpect(jsonPath("$.total_words").value(totalWords))
                 .andExpect(jsonPath("$.guessed_words", hasItem(word)));
     }
+
+    /*
+     * Doing HTTP GET "/api/game/new", handled asynchronously (on the engine
+     * bulkhead), then its dispatch once handled.
+     */
+    private ResultActions newGame() throws Exception {
+        MvcResult result = mvc.perform(get("/api/game/new"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(result));
+    }
+
 }
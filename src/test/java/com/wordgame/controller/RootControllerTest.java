@@ -11,6 +11,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -171,9 +174,31 @@ class RootControllerTest {
                 .andExpect(content().string(containsString(result)));
     }
 
+    @Test
+    void givenValidPattern_whenExecPattern_thenSuccess() throws Exception {
+        String result = "The number of words: <span>2</span>";
+        this.mockMvc.perform(post("/pattern")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("pattern", "tom?to*"))
+                .andExpect(view().name("pattern"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(result)));
+    }
+
+    @Test
+    void givenInvalidPattern_whenExecPattern_thenFailure() throws Exception {
+        String result = "only letters, ? and * allowed";
+        this.mockMvc.perform(post("/pattern")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("pattern", "c.t"))
+                .andExpect(view().name("pattern"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(result)));
+    }
+
     @Test
     void givenStartChar_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("startChar", "a"))
                 .andExpect(view().name("search"))
@@ -183,7 +208,7 @@ class RootControllerTest {
 
     @Test
     void givenEndChar_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("endChar", "a"))
                 .andExpect(view().name("search"))
@@ -193,7 +218,7 @@ class RootControllerTest {
 
     @Test
     void givenLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("length", "1"))
                 .andExpect(view().name("search"))
@@ -203,7 +228,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharEndChar_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("startChar", "a")
                         .param("endChar", "a"))
@@ -211,7 +236,7 @@ class RootControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("The number of words: ")));
 
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .param("startChar", "a")
                     .param("endChar", ""))
@@ -219,7 +244,7 @@ class RootControllerTest {
             .andExpect(status().isOk())
             .andExpect(content().string(containsString("The number of words: ")));
 
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .param("startChar", "")
                     .param("endChar", "a"))
@@ -230,7 +255,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("startChar", "a")
                         .param("length", "5"))
@@ -241,7 +266,7 @@ class RootControllerTest {
 
     @Test
     void givenEndCharLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("endChar", "a")
                         .param("length", "5"))
@@ -252,7 +277,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharEndCharLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("startChar", "a")
                         .param("endChar", "a")
@@ -264,7 +289,7 @@ class RootControllerTest {
 
     @Test
     void givenAllEmpty_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("startChar", "")
                         .param("endChar", "")
@@ -278,7 +303,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharLengthGe3_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("startChar", "are"))
                 .andExpect(view().name("search"))
@@ -288,7 +313,7 @@ class RootControllerTest {
 
     @Test
     void givenEndCharLengthGe2_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("endChar", "at"))
                 .andExpect(view().name("search"))
@@ -298,7 +323,7 @@ class RootControllerTest {
 
     @Test
     void givenInvalidLength_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("length", "a"))
                 .andExpect(view().name("search"))
@@ -309,7 +334,7 @@ class RootControllerTest {
     @Test
     void givenValidWord_whenExecSubWords_thenSuccess() throws Exception {
         String word = "tomato";
-        this.mockMvc.perform(post("/subWords")
+        performAsync(post("/subWords")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("word", word))
                 .andExpect(view().name("subWords"))
@@ -320,7 +345,7 @@ class RootControllerTest {
     @Test
     void givenInvalidWord_whenExecSubWords_thenSuccess() throws Exception {
         String word = "drucke";
-        this.mockMvc.perform(post("/subWords")
+        performAsync(post("/subWords")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("word", word))
                 .andExpect(view().name("subWords"))
@@ -331,7 +356,7 @@ class RootControllerTest {
     @Test
     void givenWordPadSpace_whenExecSubWords_thenSuccess() throws Exception {
         String word = " duck ";
-        this.mockMvc.perform(post("/subWords")
+        performAsync(post("/subWords")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("word", word))
                 .andExpect(view().name("subWords"))
@@ -342,7 +367,7 @@ class RootControllerTest {
     @Test
     void givenValidWordValidMinLength_whenExecSubWords_thenSuccess() throws Exception {
         String word = "tomato";
-        this.mockMvc.perform(post("/subWords")
+        performAsync(post("/subWords")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("word", word)
                         .param("minLength", "4"))
@@ -354,7 +379,7 @@ class RootControllerTest {
     @Test
     void givenValidWordGeMinLength_whenExecSubWords_thenSuccess() throws Exception {
         String word = "tomato";
-        this.mockMvc.perform(post("/subWords")
+        performAsync(post("/subWords")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("word", word)
                         .param("minLength", Integer.toString(word.length())))
@@ -366,7 +391,7 @@ class RootControllerTest {
     @Test
     void givenEmptyWord_whenExecSubWords_thenFailure() throws Exception {
         String word = "";
-        this.mockMvc.perform(post("/subWords")
+        performAsync(post("/subWords")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .param("word", word)
                         .param("minLength", "9"))
@@ -375,4 +400,15 @@ class RootControllerTest {
                 .andExpect(content().string(containsString("<label id=\"iptWordFeedback\" class=\"col-sm-4 text-danger is-invalid\">")));
     }
 
+    /*
+     * Performs the request handled asynchronously (on the engine bulkhead),
+     * then its dispatch once handled.
+     */
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = this.mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return this.mockMvc.perform(asyncDispatch(result));
+    }
+
 }
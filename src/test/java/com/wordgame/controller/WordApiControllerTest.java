@@ -0,0 +1,68 @@
+package com.wordgame.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.wordgame.TestConfig;
+
+@WebMvcTest(WordApiController.class)
+@Import(TestConfig.class)
+class WordApiControllerTest {
+
+    private static final String JSON_WORDS = "[\"apple\", \"fourtitude\", \"Banana\"]";
+
+    private static final String TEXT_WORDS = "apple\nfourtitude\nBanana\n";
+
+    private static final byte[] BITS = { 0b101 };
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void givenNoAccept_thenJson() throws Exception {
+        this.mvc.perform(post("/api/word/exists").contentType(MediaType.APPLICATION_JSON).content(JSON_WORDS))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("[true, false, true]"));
+        this.mvc.perform(post("/api/word/exists").contentType(MediaType.TEXT_PLAIN).content(TEXT_WORDS)
+                        .header(HttpHeaders.ACCEPT, MediaType.ALL_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("[true, false, true]"));
+    }
+
+    @Test
+    void givenOctetStreamAccepted_thenBitSet() throws Exception {
+        this.mvc.perform(post("/api/word/exists").contentType(MediaType.APPLICATION_JSON).content(JSON_WORDS)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_OCTET_STREAM_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(BITS));
+        this.mvc.perform(post("/api/word/exists").contentType(MediaType.TEXT_PLAIN).content(TEXT_WORDS)
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/octet-stream"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(BITS));
+    }
+
+    @Test
+    void givenOctetStreamLessPreferred_thenJson() throws Exception {
+        this.mvc.perform(post("/api/word/exists").contentType(MediaType.APPLICATION_JSON).content(JSON_WORDS)
+                        .header(HttpHeaders.ACCEPT, "application/octet-stream;q=0.1, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        this.mvc.perform(post("/api/word/exists").contentType(MediaType.APPLICATION_JSON).content(JSON_WORDS)
+                        .header(HttpHeaders.ACCEPT, MediaType.TEXT_HTML_VALUE))
+                .andExpect(status().isNotAcceptable());
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    @Test
+    void givenTask_thenResultAndRecorded() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test-bulkhead");
+        bulkhead.init();
+        try {
+            assertEquals("done", bulkhead.submit(() -> "done").get());
+            CompletableFuture<String> failed = bulkhead.submit(() -> {
+                throw new IllegalArgumentException("invalid");
+            });
+            ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+            assertTrue(e.getCause() instanceof IllegalArgumentException, "cause=" + e.getCause());
+            assertEquals(2, bulkhead.getExecutionLatency().getCount(), "executions");
+            assertEquals(2, bulkhead.getWaitLatency().getCount(), "waits");
+            assertEquals(0, bulkhead.getRejectedCount(), "rejected");
+        } finally {
+            bulkhead.destroy();
+        }
+    }
+
+    @Test
+    void givenQueueFull_thenRejected() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test-bulkhead");
+        bulkhead.init();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> accepted = new ArrayList<>();
+        try {
+            int capacity = bulkhead.getThreads() + bulkhead.getQueueCapacity();
+            for (int ix = 0; ix < capacity; ix += 1) {
+                accepted.add(bulkhead.submit(() -> {
+                    try {
+                        release.await();
+                        return true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }));
+            }
+            assertThrows(RejectedExecutionException.class, () -> bulkhead.submit(() -> true));
+            assertEquals(1, bulkhead.getRejectedCount(), "rejected");
+            assertEquals(bulkhead.getQueueCapacity(), bulkhead.getQueueDepth(), "queueDepth");
+
+            release.countDown();
+            for (CompletableFuture<Boolean> future : accepted) {
+                assertTrue(future.get());
+            }
+            assertTrue(bulkhead.submit(() -> true).get(), "accepted once drained");
+        } finally {
+            release.countDown();
+            bulkhead.destroy();
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.wordgame.dictionary.DictionaryLoader;
+import com.wordgame.dictionary.WordDictionary;
+
+class DailyPuzzleTest {
+
+    private static final WordDictionary DICTIONARY = DictionaryLoader.load(Paths.get("src/main/resources/words.txt"));
+
+    @Test
+    void givenSameDateAndWords_thenSamePuzzle() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        DailyPuzzle puzzle = DailyPuzzle.of(date, DICTIONARY);
+        DailyPuzzle again = DailyPuzzle.of(date, DictionaryLoader.load(Paths.get("src/main/resources/words.txt")));
+        assertEquals(puzzle.getOriginal(), again.getOriginal(), "original");
+        assertEquals(puzzle.getScramble(), again.getScramble(), "scramble");
+        assertEquals(puzzle.getSubWords(), again.getSubWords(), "subWords");
+        assertEquals(DailyPuzzle.LENGTH, puzzle.getOriginal().length(), "length");
+        assertNotEquals(puzzle.getOriginal(), puzzle.getScramble(), "scramble");
+        assertEquals(DICTIONARY.subWords(puzzle.getOriginal(), DailyPuzzle.MIN_LENGTH), puzzle.getSubWords(), "subWords");
+    }
+
+    @Test
+    void givenOtherDates_thenOtherWords() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        String original = DailyPuzzle.of(date, DICTIONARY).getOriginal();
+        int same = 0;
+        for (int day = 1; day <= 30; day += 1) {
+            if (original.equals(DailyPuzzle.of(date.plusDays(day), DICTIONARY).getOriginal())) {
+                same += 1;
+            }
+        }
+        assertTrue(same <= 1, "same=[" + same + "]");
+    }
+
+    @Test
+    void givenGuessed_thenByLengthThenWord() {
+        DailyPuzzle puzzle = DailyPuzzle.of(LocalDate.of(2024, 5, 1), DICTIONARY);
+        assertThrows(UnsupportedOperationException.class, () -> puzzle.getSubWords().add("zzz"));
+        assertFalse(puzzle.isSubWord(null), "isSubWord(null)");
+        assertEquals(puzzle.getSubWords().size(), puzzle.getGuessedWords(puzzle.getSubWords()).size(), "all guessed");
+        String previous = "";
+        for (String word : puzzle.getGuessedWords(puzzle.getSubWords())) {
+            assertTrue(previous.length() < word.length()
+                    || (previous.length() == word.length() && previous.compareTo(word) < 0), word);
+            assertTrue(puzzle.isSubWord(word), word);
+            previous = word;
+        }
+    }
+
+}
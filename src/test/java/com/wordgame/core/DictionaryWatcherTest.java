@@ -0,0 +1,43 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class DictionaryWatcherTest {
+
+    @Test
+    void givenFileChanged_thenCalledBackOnceQuiet() throws IOException, InterruptedException {
+        Path dir = Files.createTempDirectory("words");
+        Path file = Files.write(dir.resolve("words.txt"), "apple\n".getBytes(StandardCharsets.UTF_8));
+        CountDownLatch changed = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        try (DictionaryWatcher watcher = new DictionaryWatcher(file, 200, () -> {
+            calls.incrementAndGet();
+            changed.countDown();
+        })) {
+            assertEquals(file, watcher.getFile(), "file");
+            // unrelated file, ignored
+            Files.write(dir.resolve("other.txt"), "x\n".getBytes(StandardCharsets.UTF_8));
+            // written in several steps, called back once
+            Files.write(file, "apple\nbanana\n".getBytes(StandardCharsets.UTF_8));
+            Files.write(file, "apple\nbanana\ncherry\n".getBytes(StandardCharsets.UTF_8));
+            assertTrue(changed.await(30, TimeUnit.SECONDS), "calledBack");
+            Thread.sleep(500);
+            assertEquals(1, calls.get(), "calls");
+        } finally {
+            Files.deleteIfExists(dir.resolve("other.txt"));
+            Files.deleteIfExists(file);
+            Files.delete(dir);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class GameStatePoolTest {
+
+    @Autowired
+    GameStatePool pool;
+
+    @Autowired
+    JumbleEngine engine;
+
+    @Test
+    void whenTake_thenNewGameEachTime() {
+        Set<GameState> games = Collections.newSetFromMap(new IdentityHashMap<>());
+        long before = pool.getTakenCount() + pool.getCreatedInlineCount();
+        for (int ix = 0; ix < 3 * pool.getSize(); ix += 1) {
+            GameState state = pool.take(6, 3);
+            assertEquals(6, state.getOriginal().length(), "original");
+            assertTrue(games.add(state), "handedOutOnce");
+        }
+        assertEquals(before + 3 * pool.getSize(), pool.getTakenCount() + pool.getCreatedInlineCount(), "counted");
+    }
+
+    @Test
+    void givenOtherLength_thenPooledToo() {
+        GameState state = pool.take(5, null);
+        assertEquals(5, state.getOriginal().length(), "original");
+        for (String subWord : state.getSubWords().keySet()) {
+            assertTrue(subWord.length() >= 3, "minLength;subWord=" + subWord);
+        }
+    }
+
+    @Test
+    void givenRebuiltDictionary_thenPreviousGamesDropped() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (pool.getReadyCount() < pool.getSize() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long dropped = pool.getDroppedCount();
+        engine.rebuildDictionary().get(30, TimeUnit.SECONDS);
+        GameState state = pool.take(6, 3);
+        assertEquals(6, state.getOriginal().length(), "original");
+        // dropped when taken, or by the refill following
+        while (pool.getDroppedCount() == dropped && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(pool.getDroppedCount() > dropped, "dropped");
+    }
+
+    @Test
+    void givenInvalidLength_thenExpectException() {
+        assertThrows(NullPointerException.class, () -> { pool.take(null, 3); }, "length=null");
+        assertThrows(IllegalArgumentException.class, () -> { pool.take(2, null); }, "length=2");
+        assertThrows(IllegalArgumentException.class, () -> { pool.take(4, 5); }, "length=4;minLength=5");
+    }
+
+}
@@ -2,7 +2,15 @@ package com.wordgame.core;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +27,28 @@ class JumbleEngineTest {
         assertNotNull(this.getClass().getClassLoader().getResourceAsStream("words.txt"), "accessWordList");
     }
 
+    @Test
+    void dictionarySnapshot() {
+        assertSame(engine.getDictionary(), engine.getDictionary(), "loadedOnce");
+        assertEquals(64662, engine.getDictionary().size(), "size");
+        assertEquals(engine.getDictionary().size(), engine.loadWords().size(), "loadWords.size()");
+        assertNotNull(engine.getDictionary().getBuildDuration(), "buildDuration");
+        assertTrue(engine.getDictionary().getEstimatedSizeInBytes() > 0, "estimatedSize");
+        assertThrows(UnsupportedOperationException.class, () -> { engine.loadWords().add("qwerty"); }, "readOnly");
+    }
+
+    @Test
+    void whenRebuildDictionary_thenNewVersionPublished() throws Exception {
+        DictionarySnapshot before = engine.getDictionarySnapshot();
+        DictionarySnapshot rebuilt = engine.rebuildDictionary().get(30, TimeUnit.SECONDS);
+        assertTrue(rebuilt.getVersion() > before.getVersion(), "version");
+        assertNotSame(before.getDictionary(), rebuilt.getDictionary(), "newSnapshot");
+        assertSame(rebuilt.getDictionary(), engine.getDictionary(), "published");
+        assertEquals(before.getDictionary().getWords(), rebuilt.getDictionary().getWords(), "sameWords");
+        assertTrue(before.getDictionary().getMembershipIndex().contains("level"), "previousStillUsable");
+        assertFalse(engine.isRebuildingDictionary(), "rebuilding");
+    }
+
     @Test
     void scramble() {
         String word = "elephant";
@@ -35,6 +65,35 @@ class JumbleEngineTest {
     @Test
     void palindrome() {
         assertEquals(61, engine.retrievePalindromeWords().size(), "retrievePalindromeWords.size()");
+        assertSame(engine.retrievePalindromeWords(), engine.retrievePalindromeWords(), "precomputed");
+    }
+
+    @Test
+    void semordnilap() {
+        Map<String, String> pairs = engine.retrieveSemordnilapWords();
+        assertEquals("reviled", pairs.get("deliver"), "deliver");
+        assertEquals("stressed", pairs.get("desserts"), "desserts");
+        assertFalse(pairs.containsKey("stressed"), "eachPairOnce");
+        assertFalse(pairs.containsKey("level"), "notPalindrome");
+        pairs.forEach((word, reversed) -> {
+            assertEquals(new StringBuilder(word).reverse().toString(), reversed, "reversed;word=" + word);
+            assertTrue(word.compareTo(reversed) < 0, "lesserFirst;word=" + word);
+        });
+        assertThrows(UnsupportedOperationException.class, () -> { pairs.put("qwerty", "ytrewq"); }, "readOnly");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void subWord() {
+        assertTrue(JumbleEngine.isSubWord("yellow", "lowly"), "yellow;lowly");
+        assertTrue(JumbleEngine.isSubWord("YeLLoW", "lowly"), "YeLLoW;lowly");
+        assertFalse(JumbleEngine.isSubWord("yelow", "lowly"), "yelow;lowly");
+        assertFalse(JumbleEngine.isSubWord("yellow", "lowlier"), "yellow;lowlier");
+        for (String candidate : engine.generateSubWords("yellow", 3)) {
+            assertTrue(JumbleEngine.isSubWord("yellow", candidate), "generateSubWords;" + candidate);
+            assertTrue(JumbleEngine.isCharacterMatchWithFrequency("yellow", candidate), "deprecated;" + candidate);
+        }
+        assertEquals(2, JumbleEngine.getCharFrequency("yellow").get('l'), "getCharFrequency");
     }
 
     @Test
@@ -49,6 +108,22 @@ class JumbleEngineTest {
         assertNull(engine.pickOneRandomWord(99), "length=99");
     }
 
+    @Test
+    void givenLength_whenPickRandomWords_thenWordsOfLength() {
+        List<String> words = engine.pickRandomWords(6, 20, true);
+        assertEquals(20, words.size(), "withReplacement.size()");
+        words.forEach(word -> assertEquals(6, word.length(), "withReplacement;word=" + word));
+
+        words = engine.pickRandomWords(6, 20, false);
+        assertEquals(20, words.size(), "withoutReplacement.size()");
+        assertEquals(20, new HashSet<>(words).size(), "withoutReplacement.unique");
+        words.forEach(word -> assertEquals(6, word.length(), "withoutReplacement;word=" + word));
+
+        assertEquals(engine.countWords(null, null, 22), engine.pickRandomWords(22, 100, false).size(), "length=22");
+        assertTrue(engine.pickRandomWords(99, 5, true).isEmpty(), "length=99");
+        assertTrue(engine.pickRandomWords(6, 0, true).isEmpty(), "n=0");
+    }
+
     @Test
     void givenEmptyInvalidWord_thenExpectNotExists() {
         assertFalse(engine.exists(null), "word=null");
@@ -87,6 +162,65 @@ class JumbleEngineTest {
         assertEquals(0, engine.wordsMatchingPrefix("pendulumss").size(), "prefix=pendulumss");
     }
 
+    @Test
+    void givenValidPrefix_whenPaged_thenAllWordsOnce() {
+        List<String> all = new ArrayList<>(engine.wordsMatchingPrefix("pen"));
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            WordPage page = engine.wordsMatchingPrefix("pen", cursor, 25);
+            assertEquals(96, page.getTotal(), "total");
+            assertTrue(page.getWords().size() <= 25, "limit");
+            paged.addAll(page.getWords());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(all, paged, "pages");
+        assertEquals(0, engine.wordsMatchingPrefix("!", null, 10).getTotal(), "prefix=<PUNCT>");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingPrefix("pen", "bogus", 10), "cursor");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingPrefix("pen", null, 0), "limit");
+    }
+
+    @Test
+    void givenValidPrefix_whenTopWords_thenAtMostK() {
+        assertEquals(10, engine.topWordsMatchingPrefix("pen", 10).size(), "prefix=pen");
+        assertEquals(3, engine.topWordsMatchingPrefix("pendu", 10).size(), "prefix=pendu");
+        assertEquals(0, engine.topWordsMatchingPrefix("!", 10).size(), "prefix=<PUNCT>");
+        assertEquals(0, engine.topWordsMatchingPrefix("pen", 0).size(), "k=0");
+    }
+
+    @Test
+    void givenPattern_thenMatchingWords() {
+        assertEquals(Arrays.asList("tomato", "tomatoes"), engine.wordsMatchingPattern("tom?to*"), "tom?to*");
+        assertEquals(engine.wordsMatchingPattern("c?t*s"), engine.wordsMatchingPattern("C?T*S"), "caseInsensitive");
+        assertEquals(0, engine.wordsMatchingPattern(null).size(), "pattern=null");
+        assertEquals(0, engine.wordsMatchingPattern("c.t").size(), "pattern=<PUNCT>");
+    }
+
+    @Test
+    void givenWrongGuess_whenSuggestGuesses_thenSubWordsApart() {
+        long count = engine.getSuggestLatency().getCount();
+        GuessSuggestions suggestions = engine.suggestGuesses("tomatoe", word -> word.equals("tomato"), 5);
+        assertEquals(Arrays.asList("tomato"), suggestions.getSubWords(), "subWords");
+        assertEquals(Arrays.asList("tomatoes", "comatose"), suggestions.getWords(), "words");
+        assertEquals(count + 1, engine.getSuggestLatency().getCount(), "latency recorded");
+        assertEquals(0, engine.suggestWords("c.t").size(), "word=<PUNCT>");
+        assertThrows(IllegalArgumentException.class, () -> engine.suggestWords("cat", 3), "maxDistance=3");
+    }
+
+    @Test
+    void givenWords_whenExistsAll_thenBitPerWord() {
+        List<String> words = new ArrayList<>();
+        for (int ix = 0; ix < 100000; ix += 1) {
+            words.add(ix % 2 == 0 ? engine.getDictionary().getWord(ix % engine.getDictionary().size()) : "qqq" + ix);
+        }
+        long[] bits = engine.existsAll(words);
+        assertEquals((words.size() + 63) / 64, bits.length, "length");
+        for (int ix = 0; ix < words.size(); ix += 1) {
+            assertEquals(ix % 2 == 0, (bits[ix >>> 6] & (1L << ix)) != 0, words.get(ix));
+        }
+        assertEquals(0, engine.existsAll(Collections.emptyList()).length, "empty");
+    }
+
     @Test
     void givenValidPrefixCaseInsensitive_thenSomeWords() {
         assertEquals(engine.wordsMatchingPrefix("PeN").size(), engine.wordsMatchingPrefix("pen").size(), "prefix=CASE_INSENSITIVE");
@@ -159,6 +293,25 @@ class JumbleEngineTest {
         assertEquals(0, engine.searchWords('K', 'q', null).size(), "start=K;end=q;length=null");
     }
 
+    @Test
+    void givenSearchCriteria_thenWordsInDictionaryOrder() {
+        List<String> words = new ArrayList<>(engine.searchWords('f', 'r', 6));
+        List<String> sorted = new ArrayList<>(words);
+        Collections.sort(sorted);
+        assertEquals(sorted, words, "start=f;end=r;length=6");
+    }
+
+    @Test
+    void givenSearchCriteria_whenCountWords_thenSameAsSearchWords() {
+        assertEquals(0, engine.countWords(null, null, null), "start=null;end=null;length=null");
+        assertEquals(0, engine.countWords('a', '$', null), "start=a;end=<PUNCT>;length=null");
+        assertEquals(3478, engine.countWords('a', null, null), "start=a;end=null;length=null");
+        assertEquals(7654, engine.countWords(null, 'D', null), "start=null;end=D;length=null");
+        assertEquals(10466, engine.countWords(null, null, 8), "start=null;end=null;length=8");
+        assertEquals(17, engine.countWords('M', 'N', 9), "start=M;end=N;length=9");
+        assertEquals(0, engine.countWords('m', 'n', 99), "start=m;end=n;length=99");
+    }
+
     @Test
     void whenInvalidWord_thenEmptyList() {
         assertEquals(0, engine.generateSubWords(null, null).size(), "word=null;len=null");
@@ -180,6 +333,57 @@ class JumbleEngineTest {
         assertEquals(0, engine.generateSubWords("fusion", 5).size(), "word=fusion;len=5");
     }
 
+    @Test
+    void givenConsumer_whenGenerateSubWords_thenSameAsCollected() {
+        List<String> streamed = new ArrayList<>();
+        assertEquals(16, engine.generateSubWords("fusion", null, streamed::add), "word=fusion;len=null");
+        assertEquals(new ArrayList<>(engine.generateSubWords("fusion", null)), streamed, "word=fusion");
+        assertEquals(0, engine.generateSubWords(null, null, streamed::add), "word=null;len=null");
+        assertEquals(0, engine.generateSubWords("fusion", 0, streamed::add), "word=fusion;len=0");
+        assertEquals(0, engine.generateSubWords("fusion", 6, streamed::add), "word=fusion;len=6");
+        assertEquals(16, streamed.size(), "streamed");
+    }
+
+    @Test
+    void givenChunks_whenStreamSubWords_thenSameAsGenerated() {
+        for (int limit : new int[] { 1, 2, 5, 16, 64 }) {
+            SubWordStream subWords = engine.streamSubWords("Fusion", null);
+            List<String> streamed = new ArrayList<>();
+            while (!subWords.isDone()) {
+                List<String> chunk = subWords.next(limit);
+                assertTrue(chunk.size() <= limit, "limit=" + limit);
+                streamed.addAll(chunk);
+            }
+            assertEquals(new ArrayList<>(engine.generateSubWords("fusion", null)), streamed, "limit=" + limit);
+            assertEquals(16, subWords.getTotal(), "total;limit=" + limit);
+        }
+        assertTrue(engine.streamSubWords(null, null).isDone(), "word=null");
+        assertTrue(engine.streamSubWords("fusion", 6).next(64).isEmpty(), "word=fusion;len=6");
+    }
+
+    @Test
+    void givenAnagrams_whenGenerateSubWords_thenCachedOnceWithoutSelf() {
+        SegmentedLruCache<?, int[]> cache = engine.getSubWordsCache();
+        assertNotNull(cache, "cache");
+        Collection<String> listen = engine.generateSubWords("listen", 3);
+        long hits = cache.getHits();
+        Collection<String> silent = engine.generateSubWords("Silent", 3);
+        assertEquals(hits + 1, cache.getHits(), "hits");
+        assertTrue(listen.contains("silent") && !listen.contains("listen"), "listen");
+        assertTrue(silent.contains("listen") && !silent.contains("silent"), "silent");
+        assertEquals(listen.size(), silent.size(), "size");
+    }
+
+    @Test
+    void givenSameDate_whenGetDailyPuzzle_thenComputedOnce() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        DailyPuzzle puzzle = engine.getDailyPuzzle(date);
+        assertSame(puzzle, engine.getDailyPuzzle(date), "shared");
+        assertEquals(date, puzzle.getDate(), "date");
+        assertEquals(engine.getDictionary().getChecksum(), puzzle.getChecksum(), "checksum");
+        assertNotSame(puzzle, engine.getDailyPuzzle(date.plusDays(1)), "nextDay");
+    }
+
     @Test
     void givenValidInput_whenCreateGameState_thenExpectSuccess() {
         assertNotNull(engine.createGameState(3, null), "length=3;minLength=null");
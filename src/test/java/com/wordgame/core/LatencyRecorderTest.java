@@ -0,0 +1,34 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+
+    @Test
+    void givenNone_thenZero() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        assertEquals(0, recorder.getCount(), "count");
+        assertEquals(0.0, recorder.getMeanMicros(), "mean");
+        assertEquals(0, recorder.getPercentileMicros(0.99), "p99");
+    }
+
+    @Test
+    void givenLatencies_thenPercentilesAsBuckets() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int ix = 0; ix < 99; ix += 1) {
+            recorder.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(100, recorder.getCount(), "count");
+        assertEquals(149.0, recorder.getMeanMicros(), 0.001, "mean");
+        assertEquals(5000.0, recorder.getMaxMicros(), 0.001, "max");
+        assertEquals(128, recorder.getPercentileMicros(0.5), "p50");
+        assertEquals(128, recorder.getPercentileMicros(0.99), "p99");
+        assertEquals(8192, recorder.getPercentileMicros(1), "p100");
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.wordgame.dictionary.DictionaryLoader;
+import com.wordgame.dictionary.WordDictionary;
+
+class RandomWordPickerTest {
+
+    private final WordDictionary dictionary = DictionaryLoader.build(Arrays.asList(
+            "a", "ab", "abc", "b", "bc", "bcd", "cde", "def", "efg", "fgh", "ghij"));
+
+    @Test
+    void givenLength_thenEveryWordOfLengthPicked() {
+        RandomWordPicker picker = new RandomWordPicker();
+        Set<String> picked = new HashSet<>();
+        for (int ix = 0; ix < 1000; ix += 1) {
+            picked.add(picker.pick(dictionary, 3));
+        }
+        assertEquals(new HashSet<>(Arrays.asList("abc", "bcd", "cde", "def", "efg", "fgh")), picked, "length=3");
+        assertEquals("ghij", picker.pick(dictionary, 4), "length=4");
+        assertNull(picker.pick(dictionary, 5), "length=5");
+        assertNull(picker.pick(dictionary, 0), "length=0");
+        assertNotNull(picker.pick(dictionary, null), "length=null");
+    }
+
+    @Test
+    void givenSeed_thenSameWords() {
+        List<String> words = new RandomWordPicker(42L).pick(dictionary, null, 50, true);
+        assertEquals(words, new RandomWordPicker(42L).pick(dictionary, null, 50, true), "seed=42");
+    }
+
+    @Test
+    void givenWithoutReplacement_thenUniqueWords() {
+        RandomWordPicker picker = new RandomWordPicker();
+        for (int n = 1; n <= 6; n += 1) {
+            List<String> words = picker.pick(dictionary, 3, n, false);
+            assertEquals(n, words.size(), "n=" + n);
+            assertEquals(n, new HashSet<>(words).size(), "unique;n=" + n);
+        }
+        assertEquals(new HashSet<>(dictionary.getWords()),
+                new HashSet<>(picker.pick(dictionary, null, 100, false)), "n>size");
+        assertTrue(picker.pick(dictionary, 3, 0, false).isEmpty(), "n=0");
+    }
+
+}
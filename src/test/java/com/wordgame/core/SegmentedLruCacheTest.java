@@ -0,0 +1,104 @@
+package com.wordgame.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SegmentedLruCacheTest {
+
+    @Test
+    void givenCached_thenNotComputedAgain() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(10);
+        AtomicInteger computed = new AtomicInteger();
+        for (int ix = 0; ix < 3; ix += 1) {
+            assertEquals("A", cache.get("a", key -> {
+                computed.incrementAndGet();
+                return key.toUpperCase();
+            }), "get(a)");
+        }
+        assertEquals(1, computed.get(), "computed");
+        assertEquals(2, cache.getHits(), "hits");
+        assertEquals(1, cache.getMisses(), "misses");
+        assertEquals(1, cache.size(), "size");
+    }
+
+    @Test
+    void givenFull_thenReadOnceEvictedFirst() {
+        SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(5);
+        // read twice, protected
+        for (int key = 0; key < 3; key += 1) {
+            cache.get(key, Integer::valueOf);
+            cache.get(key, Integer::valueOf);
+        }
+        // a scan of keys read once
+        for (int key = 100; key < 110; key += 1) {
+            cache.get(key, Integer::valueOf);
+        }
+        assertEquals(5, cache.size(), "size");
+        assertEquals(8, cache.getEvictions(), "evictions");
+        long hits = cache.getHits();
+        for (int key = 0; key < 3; key += 1) {
+            cache.get(key, k -> { throw new AssertionError("evicted " + k); });
+        }
+        assertEquals(hits + 3, cache.getHits(), "hits");
+    }
+
+    @Test
+    void givenStriped_thenBoundedByMaxSize() throws Exception {
+        assertEquals(1, new SegmentedLruCache<Integer, Integer>(100).getStripeCount(), "small");
+        SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>(10000);
+        assertEquals(16, cache.getStripeCount(), "stripes");
+        Thread[] threads = new Thread[4];
+        for (int ix = 0; ix < threads.length; ix += 1) {
+            int offset = ix * 5000;
+            threads[ix] = new Thread(() -> {
+                for (int key = 0; key < 20000; key += 1) {
+                    cache.get(key + offset, Integer::valueOf);
+                }
+            });
+            threads[ix].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 10000, "size=" + cache.size());
+        assertEquals(4 * 20000, cache.getHits() + cache.getMisses(), "reads");
+        // at most, some keys computed concurrently and cached once
+        assertTrue(cache.getEvictions() <= cache.getMisses() - cache.size(), "evictions=" + cache.getEvictions());
+        assertTrue(cache.getEvictions() > 0, "evicted");
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedLruCache<String, String>(10, 0), "stripes=0");
+    }
+
+    @Test
+    void whenPut_thenPresentUntilRemoved() {
+        SegmentedLruCache<String, Integer> cache = new SegmentedLruCache<>(3);
+        assertNull(cache.getIfPresent("a"), "absent");
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 3);
+        assertEquals(1, cache.getIfPresent("a"), "keptFirst");
+        cache.put("c", 3);
+        cache.put("d", 4);
+        assertEquals(3, cache.size(), "bounded");
+        assertNull(cache.getIfPresent("b"), "evicted");
+        cache.removeIf(value -> value >= 3);
+        assertEquals(1, cache.size(), "removed");
+        assertEquals(1, cache.getIfPresent("a"), "kept");
+        assertEquals(1, cache.getEvictions(), "evictions");
+    }
+
+    @Test
+    void whenClear_thenEmptyKeepingCounters() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(2);
+        cache.get("a", String::toUpperCase);
+        cache.clear();
+        assertEquals(0, cache.size(), "size");
+        assertEquals(1, cache.getMisses(), "misses");
+        cache.get("a", String::toUpperCase);
+        assertEquals(2, cache.getMisses(), "missesAfterClear");
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedLruCache<String, String>(0), "maxSize=0");
+    }
+
+}
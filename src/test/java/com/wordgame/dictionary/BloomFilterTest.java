@@ -0,0 +1,96 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private final WordDictionary dictionary = DictionaryLoader.loadResource(DictionaryLoader.DEFAULT_RESOURCE);
+
+    @Test
+    void givenWordsInDictionary_thenAllFound() {
+        BloomFilter filter = BloomFilter.of(dictionary.getPackedWords(), 0.01);
+        for (String word : dictionary.getWords()) {
+            assertTrue(filter.mightContain(word), "word=" + word);
+        }
+        assertTrue(filter.mightContain("PaNdA"), "word=PaNdA");
+        assertFalse(filter.mightContain(null), "word=null");
+        assertFalse(filter.mightContain(""), "word=<EMPTY>");
+    }
+
+    @Test
+    void givenWordsNotInDictionary_thenFalsePositivesAboutRate() {
+        Random random = new Random(42);
+        for (double rate : new double[] { 0.1, 0.01, 0.001 }) {
+            BloomFilter filter = BloomFilter.of(dictionary.getPackedWords(), rate);
+            int negatives = 0;
+            int falsePositives = 0;
+            while (negatives < 200000) {
+                char[] letters = new char[4 + random.nextInt(8)];
+                for (int ix = 0; ix < letters.length; ix += 1) {
+                    letters[ix] = (char) ('a' + random.nextInt(26));
+                }
+                String word = new String(letters);
+                if (!dictionary.getMembershipIndex().contains(word)) {
+                    negatives += 1;
+                    if (filter.mightContain(word)) {
+                        falsePositives += 1;
+                    }
+                }
+            }
+            double observed = (double) falsePositives / negatives;
+            assertTrue(observed < 1.5 * rate, "rate=" + rate + ", observed=" + observed);
+            assertTrue(filter.getSizeInBytes() < dictionary.getMembershipIndex().getSizeInBytes(),
+                    "rate=" + rate + ", size=" + filter.getSizeInBytes());
+        }
+    }
+
+    @Test
+    void givenInvalidRate_thenRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(dictionary.getPackedWords(), 0.0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(dictionary.getPackedWords(), 1.0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(dictionary.getPackedWords(), Double.NaN));
+    }
+
+    @Test
+    void givenLookups_thenCounted() {
+        WordDictionary filtered = DictionaryLoader.build(Arrays.asList("panda", "kangaroo", "mangos", "eye"))
+                .withBloomFilter(0.01);
+        assertTrue(filtered.contains("Panda"), "word=Panda");
+        assertFalse(filtered.contains("pandas"), "word=pandas");
+        List<String> words = new ArrayList<>(Arrays.asList("eye", "eyes", "mangos", "zebra"));
+        long[] bits = new long[1];
+        filtered.containsAll(words, 0, words.size(), bits);
+        assertEquals(0b0101L, bits[0]);
+        BloomFilter filter = filtered.getBloomFilter();
+        assertEquals(6, filter.getQueries());
+        assertEquals(3, filter.getRejected() + filter.getFalsePositives());
+    }
+
+    @Test
+    void givenStatsSampling_thenLookupsSampled() {
+        List<String> words = Arrays.asList("panda", "kangaroo", "mangos", "eye");
+        WordDictionary unsampled = DictionaryLoader.build(words).withBloomFilter(0.01, 0);
+        assertTrue(unsampled.contains("panda"), "word=panda");
+        assertFalse(unsampled.contains("pandas"), "word=pandas");
+        assertEquals(0, unsampled.getBloomFilter().getQueries(), "none");
+
+        WordDictionary sampled = DictionaryLoader.build(words).withBloomFilter(0.01, 50);
+        BloomFilter filter = sampled.getBloomFilter();
+        assertEquals(64, filter.getStatsSampling(), "roundedUp");
+        for (int ix = 0; ix < 64000; ix += 1) {
+            sampled.contains(ix % 2 == 0 ? "panda" : "pandas");
+        }
+        assertEquals(0, filter.getQueries() % 64, "countedForSampling");
+        assertTrue(filter.getQueries() > 32000 && filter.getQueries() < 96000, "queries=" + filter.getQueries());
+        assertTrue(filter.getRejected() + filter.getFalsePositives() < filter.getQueries(), "negatives");
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.of(sampled.getPackedWords(), 0.01, -1));
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class DawgTest {
+
+    private final WordDictionary dictionary = DictionaryLoader.build(Arrays.asList(
+            "a", "aa", "aardvark", "ab", "abacus", "abbey", "b", "pen", "pend", "pendulum",
+            "pendulums", "penguin", "zebra", "zoo", "zz", "zzz"));
+
+    private final WordDictionary yellow = DictionaryLoader.build(Arrays.asList(
+            "a", "e", "el", "ell", "lew", "lo", "low", "lowly", "lye", "ole", "owe", "owl", "well", "welly",
+            "woe", "yell", "yellow", "yeow", "yew", "yowl", "wolly", "zoo"));
+
+    private List<String> bruteForce(String prefix) {
+        List<String> words = new ArrayList<>();
+        for (String word : dictionary.getWords()) {
+            if (word.startsWith(prefix.toLowerCase())) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private List<String> bruteForce(String word, int minLength) {
+        List<String> words = new ArrayList<>();
+        for (String candidate : yellow.getWords()) {
+            if (candidate.length() >= minLength && !candidate.equals(word.toLowerCase())
+                    && LetterHistogram.isSubWord(word, candidate)) {
+                words.add(candidate);
+            }
+        }
+        return words;
+    }
+
+    @Test
+    void givenWords_thenIndexOfIsWordId() {
+        Dawg dawg = dictionary.getDawg();
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            assertEquals(id, dawg.indexOf(dictionary.getWord(id)), "word=" + dictionary.getWord(id));
+            assertEquals(id, dawg.indexOf(dictionary.getWord(id).toUpperCase()), "upper;word=" + dictionary.getWord(id));
+        }
+        for (String word : Arrays.asList("", "aar", "abc", "c", "pe", "pendulumss", "zzzz", "p\u0101n")) {
+            assertEquals(-1, dawg.indexOf(word), "word=" + word);
+            assertFalse(dawg.contains(word), "contains;word=" + word);
+        }
+        assertEquals(-1, dawg.indexOf(null), "word=null");
+    }
+
+    @Test
+    void givenPrefix_thenSameAsBruteForce() {
+        for (String prefix : Arrays.asList("a", "aa", "aar", "ab", "aba", "abz", "b", "c", "p", "pe", "pen",
+                "pend", "pendulum", "pendulums", "pendulumss", "z", "ze", "zo", "zz", "zzz", "zzzz")) {
+            assertEquals(bruteForce(prefix), dictionary.wordsWithPrefix(prefix), "prefix=" + prefix);
+            assertEquals(bruteForce(prefix).size(), Dawg.rangeCount(dictionary.getDawg().prefixRange(prefix)),
+                    "count;prefix=" + prefix);
+        }
+    }
+
+    @Test
+    void givenMixedCasePrefix_thenCaseInsensitive() {
+        assertEquals(bruteForce("pen"), dictionary.wordsWithPrefix("PeN"), "prefix=PeN");
+        assertEquals(bruteForce("zz"), dictionary.wordsWithPrefix("ZZ"), "prefix=ZZ");
+    }
+
+    @Test
+    void givenPrefix_thenReadOnlyView() {
+        List<String> words = dictionary.wordsWithPrefix("pen");
+        assertThrows(UnsupportedOperationException.class, () -> { words.remove(0); }, "readOnly");
+    }
+
+    @Test
+    void givenWord_thenSubWordsSameAsBruteForce() {
+        for (String word : Arrays.asList("yellow", "YeLLoW", "wolly", "low", "ell", "zoo", "oz", "a", "yellow!")) {
+            for (int minLength = 0; minLength <= 7; minLength += 1) {
+                assertEquals(bruteForce(word, minLength), yellow.subWords(word, minLength),
+                        "word=" + word + ";minLength=" + minLength);
+            }
+        }
+    }
+
+    @Test
+    void givenPool_thenSubWordsSameAsSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (String word : Arrays.asList("yellow", "YeLLoW", "wolly", "zoo", "a", "yellowzoo", "")) {
+                for (int minLength = 0; minLength <= 7; minLength += 1) {
+                    assertEquals(yellow.subWords(word, minLength), yellow.subWords(word, minLength, pool),
+                            "word=" + word + ";minLength=" + minLength);
+                }
+            }
+            String letters = "abcdefghijklmnopqrstuvwxyzaeiou";
+            assertArrayEquals(dictionary.getDawg().subWords(letters, 1),
+                    dictionary.getDawg().subWords(letters, 1, pool), "letters=" + letters);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void givenConsumer_thenSubWordsSameAsCollected() {
+        for (String word : Arrays.asList("yellow", "YeLLoW", "wolly", "zoo", "a", "")) {
+            for (int minLength = 0; minLength <= 7; minLength += 1) {
+                List<String> streamed = new ArrayList<>();
+                assertTrue(yellow.forEachSubWord(word, minLength, streamed::add), "word=" + word);
+                assertEquals(yellow.subWords(word, minLength), streamed, "word=" + word + ";minLength=" + minLength);
+            }
+        }
+    }
+
+    @Test
+    void givenConsumerStops_thenWalkStops() {
+        List<String> streamed = new ArrayList<>();
+        assertFalse(yellow.forEachSubWord("yellow", 3, word -> streamed.add(word) && streamed.size() < 2));
+        assertEquals(yellow.subWords("yellow", 3).subList(0, 2), streamed);
+    }
+
+    @Test
+    void givenFromId_thenWalkResumed() {
+        Dawg dawg = dictionary.getDawg();
+        String letters = "aardvarkpendulumszebra";
+        int[] all = dawg.subWords(letters, 1);
+        for (int fromId = 0; fromId <= dictionary.size(); fromId += 1) {
+            List<Integer> resumed = new ArrayList<>();
+            assertTrue(dawg.subWords(letters, 1, fromId, resumed::add), "fromId=" + fromId);
+            List<Integer> expected = new ArrayList<>();
+            for (int id : all) {
+                if (id >= fromId) {
+                    expected.add(id);
+                }
+            }
+            assertEquals(expected, resumed, "fromId=" + fromId);
+        }
+    }
+
+    @Test
+    void givenAnagrams_thenBothFound() {
+        assertEquals(Arrays.asList("lowly", "wolly"), yellow.subWords("lowlyy", 5), "lowlyy");
+        assertEquals(Arrays.asList("wolly"), yellow.subWords("lowly", 5), "lowly");
+    }
+
+    @Test
+    void givenWildcards_thenSameAsRegex() {
+        for (String pattern : new String[] { "*", "?", "??", "a*", "*a", "*a*", "p?n*", "PEN*", "pend*s",
+                "z?*", "*z*z*", "a**a*", "?b*", "pendulum", "penguins", "x*" }) {
+            java.util.regex.Pattern regex = java.util.regex.Pattern.compile(
+                    pattern.toLowerCase().replace("?", ".").replace("*", ".*"));
+            List<String> words = new ArrayList<>();
+            for (String word : dictionary.getWords()) {
+                if (regex.matcher(word).matches()) {
+                    words.add(word);
+                }
+            }
+            assertEquals(words, dictionary.wordsMatching(pattern), pattern);
+        }
+    }
+
+    @Test
+    void givenTooLongPattern_thenRejected() {
+        char[] pattern = new char[Dawg.MAX_PATTERN_LENGTH + 1];
+        Arrays.fill(pattern, '?');
+        assertThrows(IllegalArgumentException.class, () -> dictionary.wordsMatching(new String(pattern)), "too long");
+        Arrays.fill(pattern, '*');
+        assertEquals(dictionary.getWords(), dictionary.wordsMatching(new String(pattern)), "stars count once");
+    }
+
+    @Test
+    void givenMisspelled_thenSimilarByDistance() {
+        assertEquals(Arrays.asList("pendulum", "pendulums"), dictionary.similarWords("pendulm", 2), "pendulm");
+        assertEquals(Arrays.asList("pen"), dictionary.similarWords("PENd", 1), "PENd");
+        assertEquals(Arrays.asList("zoo", "zz"), dictionary.similarWords("zo", 1), "zo");
+        assertEquals(0, dictionary.similarWords("qqqq", 2).size(), "qqqq");
+        for (String word : dictionary.getWords()) {
+            for (String similar : dictionary.similarWords(word, 2)) {
+                assertNotEquals(word, similar, "self");
+            }
+        }
+    }
+
+    @Test
+    void givenSharedSuffixes_thenNodesMerged() {
+        Dawg dawg = DictionaryLoader.build(Arrays.asList("tap", "taps", "top", "tops")).getDawg();
+        // t, ta|to, p, s (and the root)
+        assertEquals(5, dawg.getNodeCount(), "nodes");
+        assertEquals(5, dawg.getEdgeCount(), "edges");
+        assertTrue(dawg.getSizeInBytes() > 0, "size");
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class DictionaryFileTest {
+
+    private static final String TEXT = "deliver\nlevel\nlive\nnoon\nreviled\nrevel\nevil\nvile\ndeli\n";
+
+    private static WordDictionary compileAndMap(WordDictionary dictionary, long sourceChecksum) throws IOException {
+        Path file = Files.createTempFile("words", DictionaryFile.EXTENSION);
+        try {
+            DictionaryFile.write(dictionary, sourceChecksum, file);
+            ByteBuffer buffer = DictionaryFile.map(file);
+            assertEquals(sourceChecksum, DictionaryFile.sourceChecksum(buffer), "sourceChecksum");
+            return DictionaryFile.read(buffer, System.nanoTime());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void givenCompiled_whenMapped_thenSameAsBuilt() throws IOException {
+        ByteBuffer text = ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.UTF_8));
+        WordDictionary built = DictionaryLoader.parse(text, System.nanoTime());
+        WordDictionary mapped = compileAndMap(built, DictionaryFile.checksum(text));
+
+        assertFalse(built.isCompiled(), "built.compiled");
+        assertTrue(mapped.isCompiled(), "mapped.compiled");
+        assertEquals(built.getChecksum(), mapped.getChecksum(), "checksum");
+        assertEquals(built.getWords(), mapped.getWords(), "words");
+        for (String word : built.getWords()) {
+            assertEquals(built.getMembershipIndex().indexOf(word), mapped.getMembershipIndex().indexOf(word), word);
+            assertEquals(built.getDawg().indexOf(word), mapped.getDawg().indexOf(word), word);
+        }
+        assertEquals(-1, mapped.getMembershipIndex().indexOf("devil"), "indexOf(devil)");
+        assertEquals(built.wordsWithPrefix("li"), mapped.wordsWithPrefix("li"), "prefix");
+        int first = BitmapIndex.letter('l');
+        int length = BitmapIndex.length(5);
+        assertEquals(built.search(first, BitmapIndex.letter(null), length),
+                mapped.search(first, BitmapIndex.letter(null), length), "search");
+        assertEquals(built.subWords("deliver", 3), mapped.subWords("deliver", 3), "subWords");
+        assertEquals(built.getLengthBuckets().count(4), mapped.getLengthBuckets().count(4), "bucket(4)");
+        assertEquals(Arrays.asList("level", "noon"), mapped.getDerivedWordSets().getPalindromes(), "palindromes");
+        assertEquals(built.getDerivedWordSets().getSemordnilaps(), mapped.getDerivedWordSets().getSemordnilaps(),
+                "semordnilaps");
+    }
+
+    @Test
+    void givenOtherVersion_thenRejected() throws IOException {
+        WordDictionary built = DictionaryLoader.build(Arrays.asList("one", "two"));
+        Path file = Files.createTempFile("words", DictionaryFile.EXTENSION);
+        try {
+            DictionaryFile.write(built, 0L, file);
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[4] = (byte) (DictionaryFile.VERSION + 1);
+            assertThrows(IOException.class, () -> DictionaryFile.read(ByteBuffer.wrap(bytes), 0L), "version");
+            assertThrows(IOException.class, () -> DictionaryFile.sourceChecksum(ByteBuffer.wrap(new byte[8])), "magic");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void givenCorruptWords_thenRejected() throws IOException {
+        WordDictionary built = DictionaryLoader.build(Arrays.asList("one", "two"));
+        Path file = Files.createTempFile("words", DictionaryFile.EXTENSION);
+        try {
+            DictionaryFile.write(built, 0L, file);
+            byte[] bytes = Files.readAllBytes(file);
+            // the packed bytes, after the header (28) and their length (4)
+            bytes[32] = (byte) 'x';
+            assertThrows(IOException.class, () -> DictionaryFile.read(ByteBuffer.wrap(bytes), 0L), "checksum");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void givenCompiledStream_whenExtracted_thenMappedOnce() throws IOException {
+        WordDictionary built = DictionaryLoader.build(Arrays.asList("one", "two", "three"));
+        Path directory = Files.createTempDirectory("jdict");
+        Path file = directory.resolve("words.jdict");
+        try {
+            DictionaryFile.write(built, 42L, file);
+            byte[] bytes = Files.readAllBytes(file);
+            Path extracted;
+            try (InputStream in = new ByteArrayInputStream(bytes)) {
+                extracted = DictionaryFile.extract(in, "words.jdict", directory.resolve("tmp"));
+            }
+            assertArrayEquals(bytes, Files.readAllBytes(extracted), "extracted");
+            ByteBuffer buffer = DictionaryFile.map(extracted);
+            assertEquals(42L, DictionaryFile.sourceChecksum(buffer), "sourceChecksum");
+            assertEquals(built.getWords(), DictionaryFile.read(buffer, System.nanoTime()).getWords(), "words");
+
+            long modified = Files.getLastModifiedTime(extracted).toMillis();
+            try (InputStream in = new ByteArrayInputStream(bytes)) {
+                assertEquals(extracted, DictionaryFile.extract(in, "words.jdict", directory.resolve("tmp")), "same");
+            }
+            assertEquals(modified, Files.getLastModifiedTime(extracted).toMillis(), "extractedOnce");
+            try (InputStream in = new ByteArrayInputStream(new byte[8])) {
+                assertThrows(IOException.class, () -> DictionaryFile.extract(in, "words.jdict", directory), "magic");
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void compiledName() {
+        assertEquals("words.jdict", DictionaryLoader.compiledName("words.txt"), "words.txt");
+        assertEquals("words.jdict", DictionaryLoader.compiledName("words"), "words");
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class DictionaryLoaderTest {
+
+    private static WordDictionary load(String text) throws IOException {
+        Path file = Files.createTempFile("words", ".txt");
+        try {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+            return DictionaryLoader.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void givenNormalizedFile_thenWordsAsIs() throws IOException {
+        WordDictionary dictionary = load("apple\nbanana\ncherry\n");
+        assertEquals(Arrays.asList("apple", "banana", "cherry"), dictionary.getWords(), "words");
+        assertEquals(1, dictionary.getMembershipIndex().indexOf("Banana"), "indexOf");
+    }
+
+    @Test
+    void givenNotNormalizedFile_thenWordsNormalized() throws IOException {
+        assertEquals(Arrays.asList("apple", "banana", "cherry"),
+                load("Banana\r\n apple \n\napple\rcherry").getWords(), "unsorted");
+        assertEquals(Arrays.asList("caf\u00e9", "tea"), load("tea\ncaf\u00e9\n").getWords(), "utf8");
+    }
+
+    @Test
+    void givenMissingFile_thenFromClasspath() {
+        WordDictionary dictionary = DictionaryLoader.load("no/such/dir/words.txt");
+        assertEquals(64662, dictionary.size(), "size");
+        assertEquals(DictionaryLoader.load(Paths.get("src/main/resources/words.txt")).getWords(),
+                dictionary.getWords(), "sameAsFile");
+        assertEquals(64662, DictionaryLoader.load((String) null).size(), "path=null");
+    }
+
+    @Test
+    void givenMissingResource_thenEmpty() {
+        assertEquals(0, DictionaryLoader.loadResource("no-such-words.txt").size(), "size");
+    }
+
+}
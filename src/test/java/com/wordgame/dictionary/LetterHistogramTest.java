@@ -0,0 +1,47 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LetterHistogramTest {
+
+    private static final List<String> WORDS = Arrays.asList(
+            "", "a", "aa", "ab", "ba", "yellow", "lowly", "wolly", "well", "zzz", "quiz", "quizz", "jumble",
+            "aaaaaaaaaaaaaaaa", "aaaaaaaaaaaaaaaaa", "zzzzzzzzzzzzzzzz", "caf\u00e9", "e-mail", "email");
+
+    private static boolean bruteForce(String letters, String word) {
+        StringBuilder available = new StringBuilder(letters.toLowerCase());
+        for (char ch : word.toLowerCase().toCharArray()) {
+            int ix = available.indexOf(String.valueOf(ch));
+            if (ix < 0) {
+                return false;
+            }
+            available.deleteCharAt(ix);
+        }
+        return true;
+    }
+
+    @Test
+    void givenWords_thenSameAsBruteForce() {
+        for (String letters : WORDS) {
+            LetterHistogram histogram = LetterHistogram.of(letters);
+            for (String word : WORDS) {
+                boolean expected = bruteForce(letters, word);
+                assertEquals(expected, LetterHistogram.isSubWord(letters, word), "isSubWord;" + letters + ";" + word);
+                assertEquals(expected, histogram.contains(word), "contains;" + letters + ";" + word);
+            }
+        }
+    }
+
+    @Test
+    void givenMixedCase_thenCaseInsensitive() {
+        assertTrue(LetterHistogram.isSubWord("YeLLoW", "lowly"), "YeLLoW;lowly");
+        assertTrue(LetterHistogram.isSubWord("yellow", "LOWLY"), "yellow;LOWLY");
+        assertFalse(LetterHistogram.isSubWord("YeLoW", "lowly"), "YeLoW;lowly");
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MembershipIndexTest {
+
+    private final WordDictionary dictionary = DictionaryLoader.build(
+            Arrays.asList("panda", "Kangaroo", " mangos ", "eye", "a", "panda"));
+
+    @Test
+    void givenWordInDictionary_thenFound() {
+        MembershipIndex index = dictionary.getMembershipIndex();
+        assertTrue(index.contains("panda"), "word=panda");
+        assertTrue(index.contains("kangaroo"), "word=kangaroo");
+        assertTrue(index.contains("mangos"), "word=mangos");
+        assertTrue(index.contains("a"), "word=a");
+    }
+
+    @Test
+    void givenMixedCase_thenFound() {
+        MembershipIndex index = dictionary.getMembershipIndex();
+        assertTrue(index.contains("Panda"), "word=Panda");
+        assertTrue(index.contains("MaNGoS"), "word=MaNGoS");
+        assertTrue(index.contains(new StringBuilder("EYE")), "word=EYE");
+    }
+
+    @Test
+    void givenWordNotInDictionary_thenNotFound() {
+        MembershipIndex index = dictionary.getMembershipIndex();
+        assertFalse(index.contains(null), "word=null");
+        assertFalse(index.contains(""), "word=<EMPTY>");
+        assertFalse(index.contains(" "), "word=<BLANK>");
+        assertFalse(index.contains("pand"), "word=pand");
+        assertFalse(index.contains("pandas"), "word=pandas");
+        assertFalse(index.contains("p\u0101nda"), "word=<NON_LATIN1>");
+    }
+
+    @Test
+    void givenWord_thenIndexOfMatchesWordId() {
+        MembershipIndex index = dictionary.getMembershipIndex();
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            assertEquals(id, index.indexOf(dictionary.getWord(id)), "word=" + dictionary.getWord(id));
+        }
+        assertEquals(-1, index.indexOf("zebra"), "word=zebra");
+    }
+
+    @Test
+    void givenBatch_thenBitsOfWordsFound() {
+        MembershipIndex index = dictionary.getMembershipIndex();
+        List<String> words = new ArrayList<>();
+        for (int ix = 0; ix < 150; ix += 1) {
+            words.add(ix % 3 == 0 ? "panda" : ix % 3 == 1 ? "zebra" : null);
+        }
+        words.set(149, "EYE");
+        long[] bits = new long[3];
+        bits[2] = -1L;
+        index.lookup(words, 64, 150, bits);
+        assertEquals(0, bits[0], "not written");
+        for (int ix = 64; ix < 150; ix += 1) {
+            assertEquals(ix % 3 == 0 || ix == 149, (bits[ix >>> 6] & (1L << ix)) != 0, "word=" + ix);
+        }
+        assertEquals(0, bits[2] >>> 22, "past the words");
+    }
+
+}
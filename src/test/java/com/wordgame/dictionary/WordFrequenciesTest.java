@@ -0,0 +1,71 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class WordFrequenciesTest {
+
+    @Test
+    void givenFrequencyFile_thenMostFrequentFirst() throws Exception {
+        WordDictionary dictionary = DictionaryLoader.build(Arrays.asList("pen", "pencil", "penny", "pend", "pet", "zoo"));
+        Path file = Files.createTempFile("frequencies", ".txt");
+        try {
+            Files.write(file, Arrays.asList("# word count", "penny\t30", "PENCIL 50", "pet 7", "pencil 5", "unknown 99",
+                    "pend x"), StandardCharsets.UTF_8);
+            WordFrequencies frequencies = WordFrequencies.load(file, dictionary);
+            assertEquals(3, frequencies.getListedCount(), "listed");
+            dictionary = dictionary.withFrequencies(frequencies, System.nanoTime());
+        } finally {
+            Files.delete(file);
+        }
+        assertEquals(Arrays.asList("pencil", "penny", "pen", "pend"), dictionary.topWordsWithPrefix("pen", 10), "pen");
+        assertEquals(Arrays.asList("pencil", "penny"), dictionary.topWordsWithPrefix("PE", 2), "PE");
+        assertEquals(0, dictionary.topWordsWithPrefix("pen", 0).size(), "k=0");
+        assertEquals(0, dictionary.topWordsWithPrefix("x", 5).size(), "x");
+    }
+
+    @Test
+    void givenNoFrequencies_thenDictionaryOrder() {
+        WordDictionary dictionary = DictionaryLoader.load(Paths.get("src/main/resources/words.txt"));
+        assertNull(dictionary.getFrequencies(), "frequencies");
+        assertEquals(dictionary.wordsWithPrefix("pen").subList(0, 5), dictionary.topWordsWithPrefix("pen", 5), "pen");
+        assertEquals(2, dictionary.topWordsWithPrefix("pendulum", 5).size(), "pendulum");
+    }
+
+    @Test
+    void givenRandomWeights_thenSameAsSorted() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int size = 1; size < 200; size += 7) {
+            long[] weights = new long[size];
+            for (int ix = 0; ix < size; ix += 1) {
+                weights[ix] = random.nextInt(10);
+            }
+            WordFrequencies frequencies = new WordFrequencies(weights, size);
+            for (int from = 0; from < size; from += 3) {
+                for (int to = from; to <= size; to += 5) {
+                    List<Integer> expected = new ArrayList<>();
+                    for (int id = from; id < to; id += 1) {
+                        expected.add(id);
+                    }
+                    expected.sort(Comparator.comparingLong((Integer id) -> -weights[id]).thenComparing(id -> id));
+                    int k = random.nextInt(12);
+                    int[] actual = frequencies.top(from, to, k);
+                    assertEquals(expected.subList(0, Math.min(k, expected.size())).toString(),
+                            Arrays.toString(actual), "size=" + size + ", from=" + from + ", to=" + to + ", k=" + k);
+                }
+            }
+        }
+    }
+
+}
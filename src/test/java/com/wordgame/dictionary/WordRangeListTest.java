@@ -0,0 +1,46 @@
+package com.wordgame.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class WordRangeListTest {
+
+    private final WordDictionary dictionary = DictionaryLoader.build(
+            Arrays.asList("apple", "apply", "banana", "band", "bandana", "cherry"));
+
+    @Test
+    void givenAllWords_thenDecodedWhenRead() {
+        List<String> words = dictionary.getWords();
+        assertEquals(Arrays.asList("apple", "apply", "banana", "band", "bandana", "cherry"), new ArrayList<>(words), "words");
+        assertEquals("band", words.get(3), "get(3)");
+        assertNotSame(words.get(3), words.get(3), "notKept");
+        assertThrows(IndexOutOfBoundsException.class, () -> words.get(6), "get(6)");
+        assertThrows(UnsupportedOperationException.class, () -> words.add("date"), "readOnly");
+    }
+
+    @Test
+    void givenPrefix_thenRangeOfWords() {
+        List<String> words = dictionary.wordsWithPrefix("ban");
+        assertEquals(Arrays.asList("banana", "band", "bandana"), words, "ban");
+        assertEquals(Arrays.asList("band", "bandana"), words.subList(1, 3), "subList");
+        assertEquals(3, ((WordRangeList) words).getId(1), "getId");
+        assertTrue(dictionary.wordsWithPrefix("x").isEmpty(), "x");
+    }
+
+    @Test
+    void givenWord_whenIndexOf_thenExactMatchWithinRange() {
+        List<String> words = dictionary.wordsWithPrefix("ban");
+        assertEquals(1, words.indexOf("band"), "band");
+        assertTrue(words.contains("bandana"), "bandana");
+        assertFalse(words.contains("Band"), "caseSensitive");
+        assertFalse(words.contains("apple"), "outOfRange");
+        assertFalse(words.contains("bandit"), "notFound");
+        assertTrue(dictionary.getWords().contains("cherry"), "all");
+    }
+
+}